@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.api.accessor;
+
+public interface EntityGravityAccessor {
+    /**
+     * Returns the gravity multiplier acting on this entity.
+     * This is the entity's override if one is set, otherwise the multiplier of the level it is in.
+     *
+     * @return the gravity multiplier acting on this entity
+     */
+    default double galacticraft$getGravityMultiplier() {
+        throw new RuntimeException("This should be overridden by mixin!");
+    }
+
+    /**
+     * Overrides the gravity multiplier of the level for this entity, e.g. inside an artificial gravity field.
+     * The override is not saved, so whatever applies it is expected to keep it up to date.
+     *
+     * @param multiplier the gravity multiplier to use, or {@link Double#NaN} to use the level's gravity again
+     */
+    default void galacticraft$setGravityOverride(double multiplier) {
+        throw new RuntimeException("This should be overridden by mixin!");
+    }
+}
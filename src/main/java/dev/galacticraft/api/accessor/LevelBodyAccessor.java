@@ -33,6 +33,16 @@ public interface LevelBodyAccessor {
         throw new RuntimeException("This should be overridden by mixin!");
     }
 
+    /**
+     * Returns the gravity multiplier of this level.
+     * This is cached when the level is created, so it is cheap enough to be queried for every entity on every tick.
+     *
+     * @return the gravity of this level's celestial body, or {@code 1.0} if it is not a celestial body
+     */
+    default double galacticraft$getGravity() {
+        throw new RuntimeException("This should be overridden by mixin!");
+    }
+
     default boolean galacticraft$hasDimensionTypeTag(TagKey<DimensionType> tag) {
         throw new RuntimeException("This should be overridden by mixin!");
     }
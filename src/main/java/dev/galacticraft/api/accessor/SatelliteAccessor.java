@@ -28,14 +28,49 @@
 import dev.galacticraft.impl.universe.position.config.SatelliteConfig;
 import net.minecraft.resources.ResourceLocation;
 
+import java.util.Collection;
 import java.util.Map;
+import java.util.UUID;
 
 public interface SatelliteAccessor {
+    /**
+     * Returns a live, read-only view of every satellite.
+     */
     Map<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>> galacticraft$getSatellites();
 
+    /**
+     * Returns a live, read-only view of the satellites orbiting the given body.
+     */
+    Collection<CelestialBody<SatelliteConfig, SatelliteType>> galacticraft$getSatellitesOrbiting(CelestialBody<?, ?> parent);
+
+    /**
+     * Returns a live, read-only view of the satellites owned by the given player.
+     */
+    Collection<CelestialBody<SatelliteConfig, SatelliteType>> galacticraft$getSatellitesOwnedBy(UUID owner);
+
+    /**
+     * Returns a live, read-only view of the satellites the given player owns or is trusted on.
+     */
+    Collection<CelestialBody<SatelliteConfig, SatelliteType>> galacticraft$getAccessibleSatellites(UUID player);
+
+    /**
+     * Returns the version of a satellite, which changes every time it is replaced or marked dirty.
+     *
+     * @return the version, or {@code 0} if there is no such satellite
+     */
+    int galacticraft$getSatelliteVersion(ResourceLocation id);
+
     void galacticraft$addSatellite(ResourceLocation id, CelestialBody<SatelliteConfig, SatelliteType> satellite);
 
     void galacticraft$removeSatellite(ResourceLocation id);
 
+    /**
+     * Flags a satellite whose config was modified in place, so that it is written out with the next save.
+     * Satellites are only saved when they are added, removed or marked dirty.
+     *
+     * @param id the id of the modified satellite
+     */
+    void galacticraft$markSatelliteDirty(ResourceLocation id);
+
     void galacticraft$loadSatellites(DynamicDimensionLoadCallback.DynamicDimensionLoader dynamicDimensionLoader);
 }
@@ -28,9 +28,19 @@
 import dev.galacticraft.impl.universe.position.config.SatelliteConfig;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
+import net.minecraft.resources.ResourceLocation;
 
 @Environment(EnvType.CLIENT)
 public interface ClientSatelliteAccessor extends SatelliteAccessor {
+    /**
+     * Adds or replaces a satellite sent by the server, unless the client already has the same or a newer version of it.
+     *
+     * @param id the id of the satellite
+     * @param satellite the satellite
+     * @param version the version of the satellite on the server
+     */
+    void galacticraft$updateSatellite(ResourceLocation id, CelestialBody<SatelliteConfig, SatelliteType> satellite, int version);
+
     void addListener(SatelliteListener listener);
 
     void removeListener(SatelliteListener listener);
@@ -69,7 +69,11 @@ public RocketData(@Nullable EitherHolder<RocketCone<?, ?>> cone, @Nullable Eithe
             Codec.INT.fieldOf("color").forGetter(RocketData::color)
             ).apply(instance, RocketData::new));
 
-    public static final StreamCodec<RegistryFriendlyByteBuf, RocketData> STREAM_CODEC = ByteBufCodecs.fromCodecWithRegistriesTrusted(CODEC);
+    /**
+     * Writes which parts are present as a single bit mask, followed by the network id of each present part and the color.
+     * The part registries are synced, so their ids match on both sides.
+     */
+    public static final StreamCodec<RegistryFriendlyByteBuf, RocketData> STREAM_CODEC = StreamCodec.of(RocketData::write, RocketData::read);
 
     @Contract("_, _, _, _, _, _, _ -> new")
     static @NotNull RocketData create(int color, @Nullable Holder<RocketCone<?, ?>> cone, @Nullable Holder<RocketBody<?, ?>> body,
@@ -141,6 +145,38 @@ public boolean canTravel(@NotNull HolderLookup.Provider lookup, CelestialBody<?,
         return false;
     }
 
+    private static void write(RegistryFriendlyByteBuf buf, RocketData data) {
+        int mask = 0;
+        if (data.cone.isPresent()) mask |= 1;
+        if (data.body.isPresent()) mask |= 1 << 1;
+        if (data.fin.isPresent()) mask |= 1 << 2;
+        if (data.booster.isPresent()) mask |= 1 << 3;
+        if (data.engine.isPresent()) mask |= 1 << 4;
+        if (data.upgrade.isPresent()) mask |= 1 << 5;
+        buf.writeByte(mask);
+
+        data.cone.ifPresent(cone -> RocketCone.NETWORK_EITHER_STREAM_CODEC.encode(buf, cone));
+        data.body.ifPresent(body -> RocketBody.NETWORK_EITHER_STREAM_CODEC.encode(buf, body));
+        data.fin.ifPresent(fin -> RocketFin.NETWORK_EITHER_STREAM_CODEC.encode(buf, fin));
+        data.booster.ifPresent(booster -> RocketBooster.NETWORK_EITHER_STREAM_CODEC.encode(buf, booster));
+        data.engine.ifPresent(engine -> RocketEngine.NETWORK_EITHER_STREAM_CODEC.encode(buf, engine));
+        data.upgrade.ifPresent(upgrade -> RocketUpgrade.NETWORK_EITHER_STREAM_CODEC.encode(buf, upgrade));
+        buf.writeInt(data.color);
+    }
+
+    private static RocketData read(RegistryFriendlyByteBuf buf) {
+        int mask = buf.readUnsignedByte();
+        return new RocketData(
+                (mask & 1) != 0 ? Optional.of(RocketCone.NETWORK_EITHER_STREAM_CODEC.decode(buf)) : Optional.empty(),
+                (mask & 1 << 1) != 0 ? Optional.of(RocketBody.NETWORK_EITHER_STREAM_CODEC.decode(buf)) : Optional.empty(),
+                (mask & 1 << 2) != 0 ? Optional.of(RocketFin.NETWORK_EITHER_STREAM_CODEC.decode(buf)) : Optional.empty(),
+                (mask & 1 << 3) != 0 ? Optional.of(RocketBooster.NETWORK_EITHER_STREAM_CODEC.decode(buf)) : Optional.empty(),
+                (mask & 1 << 4) != 0 ? Optional.of(RocketEngine.NETWORK_EITHER_STREAM_CODEC.decode(buf)) : Optional.empty(),
+                (mask & 1 << 5) != 0 ? Optional.of(RocketUpgrade.NETWORK_EITHER_STREAM_CODEC.decode(buf)) : Optional.empty(),
+                buf.readInt()
+        );
+    }
+
     private static <T> Optional<EitherHolder<T>> maybeHolder(@Nullable Holder<T> holder) {
         return holder == null ? Optional.empty() : Optional.of(new EitherHolder<>(holder));
     }
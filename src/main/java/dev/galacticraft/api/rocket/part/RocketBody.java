@@ -33,6 +33,7 @@
 import net.minecraft.core.HolderSet;
 import net.minecraft.core.RegistryCodecs;
 import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.resources.RegistryFileCodec;
 import net.minecraft.world.item.EitherHolder;
@@ -47,6 +48,7 @@
     
     Codec<EitherHolder<RocketBody<?, ?>>> EITHER_CODEC = EitherHolder.codec(RocketRegistries.ROCKET_BODY, CODEC);
     StreamCodec<RegistryFriendlyByteBuf, EitherHolder<RocketBody<?, ?>>> EITHER_STREAM_CODEC = EitherHolder.streamCodec(RocketRegistries.ROCKET_BODY, STREAM_CODEC);
+    StreamCodec<RegistryFriendlyByteBuf, EitherHolder<RocketBody<?, ?>>> NETWORK_EITHER_STREAM_CODEC = EitherHolder.streamCodec(RocketRegistries.ROCKET_BODY, ByteBufCodecs.holderRegistry(RocketRegistries.ROCKET_BODY));
 
     @Contract(pure = true, value = "_, _ -> new")
     static @NotNull <C extends RocketBodyConfig, T extends RocketBodyType<C>> RocketBody<C, T> create(@NotNull C config, @NotNull T type) {
@@ -33,6 +33,7 @@
 import net.minecraft.core.HolderSet;
 import net.minecraft.core.RegistryCodecs;
 import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.resources.RegistryFileCodec;
 import net.minecraft.world.item.EitherHolder;
@@ -47,6 +48,7 @@
 
     Codec<EitherHolder<RocketBooster<?, ?>>> EITHER_CODEC = EitherHolder.codec(RocketRegistries.ROCKET_BOOSTER, CODEC);
     StreamCodec<RegistryFriendlyByteBuf, EitherHolder<RocketBooster<?, ?>>> EITHER_STREAM_CODEC = EitherHolder.streamCodec(RocketRegistries.ROCKET_BOOSTER, STREAM_CODEC);
+    StreamCodec<RegistryFriendlyByteBuf, EitherHolder<RocketBooster<?, ?>>> NETWORK_EITHER_STREAM_CODEC = EitherHolder.streamCodec(RocketRegistries.ROCKET_BOOSTER, ByteBufCodecs.holderRegistry(RocketRegistries.ROCKET_BOOSTER));
 
     @Contract(pure = true, value = "_, _ -> new")
     static @NotNull <C extends RocketBoosterConfig, T extends RocketBoosterType<C>> RocketBooster<C, T> create(@NotNull C config, @NotNull T type) {
@@ -33,6 +33,7 @@
 import net.minecraft.core.HolderSet;
 import net.minecraft.core.RegistryCodecs;
 import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.resources.RegistryFileCodec;
 import net.minecraft.world.item.EitherHolder;
@@ -47,6 +48,7 @@
 
     Codec<EitherHolder<RocketCone<?, ?>>> EITHER_CODEC = EitherHolder.codec(RocketRegistries.ROCKET_CONE, CODEC);
     StreamCodec<RegistryFriendlyByteBuf, EitherHolder<RocketCone<?, ?>>> EITHER_STREAM_CODEC = EitherHolder.streamCodec(RocketRegistries.ROCKET_CONE, STREAM_CODEC);
+    StreamCodec<RegistryFriendlyByteBuf, EitherHolder<RocketCone<?, ?>>> NETWORK_EITHER_STREAM_CODEC = EitherHolder.streamCodec(RocketRegistries.ROCKET_CONE, ByteBufCodecs.holderRegistry(RocketRegistries.ROCKET_CONE));
 
     @Contract(pure = true, value = "_, _ -> new")
     static @NotNull <C extends RocketConeConfig, T extends RocketConeType<C>> RocketCone<C, T> create(@NotNull C config, @NotNull T type) {
@@ -33,6 +33,7 @@
 import net.minecraft.core.HolderSet;
 import net.minecraft.core.RegistryCodecs;
 import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.resources.RegistryFileCodec;
 import net.minecraft.world.item.EitherHolder;
@@ -47,6 +48,7 @@
 
     Codec<EitherHolder<RocketFin<?, ?>>> EITHER_CODEC = EitherHolder.codec(RocketRegistries.ROCKET_FIN, CODEC);
     StreamCodec<RegistryFriendlyByteBuf, EitherHolder<RocketFin<?, ?>>> EITHER_STREAM_CODEC = EitherHolder.streamCodec(RocketRegistries.ROCKET_FIN, STREAM_CODEC);
+    StreamCodec<RegistryFriendlyByteBuf, EitherHolder<RocketFin<?, ?>>> NETWORK_EITHER_STREAM_CODEC = EitherHolder.streamCodec(RocketRegistries.ROCKET_FIN, ByteBufCodecs.holderRegistry(RocketRegistries.ROCKET_FIN));
 
     @Contract(pure = true, value = "_, _ -> new")
     static @NotNull <C extends RocketFinConfig, T extends RocketFinType<C>> RocketFin<C, T> create(@NotNull C config, @NotNull T type) {
@@ -33,6 +33,7 @@
 import net.minecraft.core.HolderSet;
 import net.minecraft.core.RegistryCodecs;
 import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.resources.RegistryFileCodec;
 import net.minecraft.world.item.EitherHolder;
@@ -47,6 +48,7 @@
 
     Codec<EitherHolder<RocketUpgrade<?, ?>>> EITHER_CODEC = EitherHolder.codec(RocketRegistries.ROCKET_UPGRADE, CODEC);
     StreamCodec<RegistryFriendlyByteBuf, EitherHolder<RocketUpgrade<?, ?>>> EITHER_STREAM_CODEC = EitherHolder.streamCodec(RocketRegistries.ROCKET_UPGRADE, STREAM_CODEC);
+    StreamCodec<RegistryFriendlyByteBuf, EitherHolder<RocketUpgrade<?, ?>>> NETWORK_EITHER_STREAM_CODEC = EitherHolder.streamCodec(RocketRegistries.ROCKET_UPGRADE, ByteBufCodecs.holderRegistry(RocketRegistries.ROCKET_UPGRADE));
 
     @Contract(pure = true, value = "_, _ -> new")
     static @NotNull <C extends RocketUpgradeConfig, T extends RocketUpgradeType<C>> RocketUpgrade<C, T> create(@NotNull C config, @NotNull T type) {
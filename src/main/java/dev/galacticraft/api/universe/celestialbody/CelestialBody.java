@@ -52,12 +52,11 @@
     public static final StreamCodec<RegistryFriendlyByteBuf, Holder<CelestialBody<?, ?>>> STREAM_CODEC = StreamCodecs.ofHolder(AddonRegistries.CELESTIAL_BODY);
 
     public static double getGravity(Entity entity) {
-        return modifyGravity(entity.level(), entity instanceof LivingEntity living ? living.getAttributeBaseValue(Attributes.GRAVITY) : 0.08d);
+        return entity.galacticraft$getGravityMultiplier() * (entity instanceof LivingEntity living ? living.getAttributeBaseValue(Attributes.GRAVITY) : 0.08d);
     }
 
     public static double modifyGravity(Level level, double d) {
-        Holder<CelestialBody<?, ?>> holder = level.galacticraft$getCelestialBody();
-        return holder != null ? holder.value().gravity() * d : d;
+        return level.galacticraft$getGravity() * d;
     }
 
     /**
@@ -29,4 +29,14 @@ public interface InternalLevelOxygenAccessor {
     boolean getDefaultBreathable();
 
     void setDefaultBreathable(boolean breathable);
+
+    /**
+     * Returns a counter that changes whenever the breathability of any loaded position in this level may have changed.
+     * Used to cache breathability lookups across ticks.
+     *
+     * @return the current oxygen version of this level
+     */
+    int galacticraft$getOxygenVersion();
+
+    void galacticraft$markOxygenChanged();
 }
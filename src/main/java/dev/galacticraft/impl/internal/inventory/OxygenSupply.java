@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.impl.internal.inventory;
+
+import dev.galacticraft.api.gas.Gases;
+import net.fabricmc.fabric.api.transfer.v1.context.ContainerItemContext;
+import net.fabricmc.fabric.api.transfer.v1.fluid.FluidStorage;
+import net.fabricmc.fabric.api.transfer.v1.fluid.FluidVariant;
+import net.fabricmc.fabric.api.transfer.v1.item.InventoryStorage;
+import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
+import net.fabricmc.fabric.api.transfer.v1.storage.StorageUtil;
+import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
+import net.minecraft.world.Container;
+import net.minecraft.world.item.ItemStack;
+
+/**
+ * Tracks the oxygen available in an entity's oxygen tanks.
+ * Breathing is taken from the cached amounts and written back to the tanks in batches,
+ * so the transfer API is only used when a tank is swapped or a batch is flushed.
+ * The owner must {@link #flush()} before a tank is replaced or taken out of its slot, or the pending oxygen is lost.
+ */
+@SuppressWarnings("UnstableApiUsage")
+public final class OxygenSupply {
+    private static final int FLUSH_INTERVAL = 20;
+    private static final FluidVariant OXYGEN = FluidVariant.of(Gases.OXYGEN);
+
+    private final Container tanks;
+    private final ItemStack[] stacks;
+    private final long[] amounts;
+    private final long[] pending;
+    private int ticksUntilFlush = FLUSH_INTERVAL;
+
+    public OxygenSupply(Container tanks) {
+        this.tanks = tanks;
+        this.stacks = new ItemStack[tanks.getContainerSize()];
+        this.amounts = new long[tanks.getContainerSize()];
+        this.pending = new long[tanks.getContainerSize()];
+    }
+
+    /**
+     * Takes up to {@code amount} oxygen from the first tank that still holds any.
+     *
+     * @return whether any oxygen was taken
+     */
+    public boolean drain(long amount) {
+        this.validate();
+        for (int i = 0; i < this.stacks.length; i++) {
+            long available = this.amounts[i] - this.pending[i];
+            if (available > 0) {
+                this.pending[i] += Math.min(amount, available);
+                if (--this.ticksUntilFlush <= 0) {
+                    this.flush();
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public long getAvailable() {
+        this.validate();
+        long available = 0;
+        for (int i = 0; i < this.stacks.length; i++) {
+            available += this.amounts[i] - this.pending[i];
+        }
+        return available;
+    }
+
+    /**
+     * Writes all oxygen taken since the last flush back to the tanks.
+     */
+    public void flush() {
+        // slots changed by the transfer API (including the writes below) already belong to an open transaction;
+        // those only ever fill empty slots, so there is nothing pending to lose
+        if (Transaction.isOpen()) return;
+        this.validate();
+        this.ticksUntilFlush = FLUSH_INTERVAL;
+        for (int i = 0; i < this.stacks.length; i++) {
+            if (this.pending[i] > 0 && this.tanks.getItem(i) == this.stacks[i]) {
+                Storage<FluidVariant> storage = ContainerItemContext.ofSingleSlot(InventoryStorage.of(this.tanks, null).getSlot(i)).find(FluidStorage.ITEM);
+                if (storage != null) {
+                    try (Transaction transaction = Transaction.openOuter()) {
+                        long remaining = this.pending[i];
+                        long extracted;
+                        // tanks cap how much can be moved per operation
+                        while (remaining > 0 && (extracted = storage.extract(OXYGEN, remaining, transaction)) > 0) {
+                            remaining -= extracted;
+                        }
+                        transaction.commit();
+                    }
+                }
+                this.read(i);
+            }
+        }
+    }
+
+    private void validate() {
+        for (int i = 0; i < this.stacks.length; i++) {
+            ItemStack stack = this.tanks.getItem(i);
+            if (stack != this.stacks[i]) {
+                if (ItemStack.matches(stack, this.stacks[i])) {
+                    // an identical copy of the tank, which still owes the oxygen pending for the old stack
+                    this.stacks[i] = stack;
+                } else {
+                    // the tank was swapped without a flush; oxygen pending for the old stack can no longer be written back
+                    this.read(i);
+                }
+            }
+        }
+    }
+
+    private void read(int slot) {
+        ItemStack stack = this.tanks.getItem(slot);
+        this.stacks[slot] = stack;
+        this.pending[slot] = 0;
+        this.amounts[slot] = 0;
+        if (!stack.isEmpty()) {
+            Storage<FluidVariant> storage = ContainerItemContext.withConstant(stack).find(FluidStorage.ITEM);
+            if (storage != null) {
+                this.amounts[slot] = StorageUtil.simulateExtract(storage, OXYGEN, Long.MAX_VALUE, null);
+            }
+        }
+    }
+}
@@ -50,6 +50,8 @@
 public abstract class LevelCelestialBodyMixin implements LevelBodyAccessor {
     @Unique
     private Holder<CelestialBody<? ,?>> celestialBody = null;
+    @Unique
+    private double gravity = 1.0;
 
     @Shadow public abstract RegistryAccess registryAccess();
 
@@ -68,6 +70,9 @@ private void init(WritableLevelData writableLevelData,
         this.celestialBody = registryAccess.registryOrThrow(AddonRegistries.CELESTIAL_BODY).holders().filter(
                 b -> b.value().type() instanceof Landable landable && landable.world(b.value().config()).equals(levelKey)
         ).findFirst().orElse(null);
+        if (this.celestialBody != null) {
+            this.gravity = this.celestialBody.value().gravity();
+        }
     }
 
     @Override
@@ -75,6 +80,11 @@ private void init(WritableLevelData writableLevelData,
         return this.celestialBody;
     }
 
+    @Override
+    public double galacticraft$getGravity() {
+        return this.gravity;
+    }
+
     @Override
     public boolean galacticraft$hasDimensionTypeTag(TagKey<DimensionType> tag) {
         Registry<DimensionType> dimensionTypeRegistry = this.registryAccess().registryOrThrow(Registries.DIMENSION_TYPE);
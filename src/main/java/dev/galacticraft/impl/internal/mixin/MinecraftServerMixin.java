@@ -22,23 +22,39 @@
 
 package dev.galacticraft.impl.internal.mixin;
 
-import com.google.common.collect.ImmutableMap;
 import com.mojang.datafixers.util.Pair;
 import com.mojang.serialization.DataResult;
 import dev.galacticraft.api.accessor.SatelliteAccessor;
 import dev.galacticraft.api.universe.celestialbody.CelestialBody;
+import dev.galacticraft.dynamicdimensions.api.DynamicDimensionRegistry;
 import dev.galacticraft.dynamicdimensions.api.event.DynamicDimensionLoadCallback;
+import dev.galacticraft.impl.internal.accessor.SatelliteLevelLoader;
+import dev.galacticraft.impl.network.s2c.AddSatellitePayload;
+import dev.galacticraft.impl.network.s2c.RemoveSatellitePayload;
+import dev.galacticraft.impl.satellite.SatelliteIndex;
 import dev.galacticraft.impl.universe.celestialbody.type.SatelliteType;
 import dev.galacticraft.impl.universe.position.config.SatelliteConfig;
 import dev.galacticraft.mod.Constant;
+import dev.galacticraft.mod.Galacticraft;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.fabricmc.fabric.api.util.NbtType;
+import net.minecraft.Util;
 import net.minecraft.nbt.*;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.level.dimension.LevelStem;
 import net.minecraft.world.level.storage.LevelResource;
 import net.minecraft.world.level.storage.LevelStorageSource;
-import org.jetbrains.annotations.Unmodifiable;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnmodifiableView;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
@@ -48,77 +64,330 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.HashMap;
-import java.util.Map;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
 
 @Mixin(MinecraftServer.class)
-public abstract class MinecraftServerMixin implements SatelliteAccessor {
-    @Unique private final Map<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>> satellites = new HashMap<>();
+public abstract class MinecraftServerMixin implements SatelliteAccessor, SatelliteLevelLoader {
+    @Unique private static final String LEGACY_SATELLITES_FILE = "satellites.dat";
+    @Unique private static final String SATELLITES_DIRECTORY = "satellites";
+    @Unique private static final String SATELLITE_EXTENSION = ".dat";
+    @Unique private static final String KEEP_LOADED = "keep_loaded";
+    @Unique private static final int IDLE_CHECK_INTERVAL = 20;
+
+    @Unique private final SatelliteIndex satellites = new SatelliteIndex();
+    @Unique private final Set<ResourceLocation> dirtySatellites = new HashSet<>();
+    /**
+     * Satellites that were added, removed or modified this tick and have to be sent to every player.
+     */
+    @Unique private final Set<ResourceLocation> unsyncedSatellites = new LinkedHashSet<>();
+    @Unique private boolean deleteLegacySatellites = false;
+    /**
+     * Satellites with force-loaded chunks, which are loaded with the server and never unloaded for being idle.
+     */
+    @Unique private final Set<ResourceLocation> keepLoadedSatellites = new HashSet<>();
+    @Unique private final Object2LongMap<ResourceLocation> satelliteIdleTicks = new Object2LongOpenHashMap<>();
+    /**
+     * The tail of the chain of pending satellite writes.
+     * Writes are chained so that two saves of the same satellite can never land out of order.
+     */
+    @Unique private CompletableFuture<Void> pendingSatelliteWrites = CompletableFuture.completedFuture(null);
 
     @Shadow @Final protected LevelStorageSource.LevelStorageAccess storageSource;
 
+    @Shadow public abstract @Nullable ServerLevel getLevel(ResourceKey<Level> key);
+
+    @Shadow public abstract int getTickCount();
+
+    @Override
+    public @UnmodifiableView Map<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>> galacticraft$getSatellites() {
+        return this.satellites.getSatellites();
+    }
+
+    @Override
+    public @UnmodifiableView Collection<CelestialBody<SatelliteConfig, SatelliteType>> galacticraft$getSatellitesOrbiting(CelestialBody<?, ?> parent) {
+        return this.satellites.getOrbiting(parent);
+    }
+
     @Override
-    public @Unmodifiable Map<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>> galacticraft$getSatellites() {
-        return ImmutableMap.copyOf(this.satellites);
+    public @UnmodifiableView Collection<CelestialBody<SatelliteConfig, SatelliteType>> galacticraft$getSatellitesOwnedBy(UUID owner) {
+        return this.satellites.getOwnedBy(owner);
+    }
+
+    @Override
+    public @UnmodifiableView Collection<CelestialBody<SatelliteConfig, SatelliteType>> galacticraft$getAccessibleSatellites(UUID player) {
+        return this.satellites.getAccessibleBy(player);
+    }
+
+    @Override
+    public int galacticraft$getSatelliteVersion(ResourceLocation id) {
+        return this.satellites.getVersion(id);
     }
 
     @Override
     public void galacticraft$addSatellite(ResourceLocation id, CelestialBody<SatelliteConfig, SatelliteType> satellite) {
         this.satellites.put(id, satellite);
+        satellite.config().setChangeListener(() -> this.galacticraft$markSatelliteDirty(id));
+        this.dirtySatellites.add(id);
+        this.unsyncedSatellites.add(id);
     }
 
     @Override
     public void galacticraft$removeSatellite(ResourceLocation id) {
-        this.satellites.remove(id);
+        if (this.satellites.remove(id) != null) {
+            this.dirtySatellites.add(id);
+            this.unsyncedSatellites.add(id);
+            this.keepLoadedSatellites.remove(id);
+            this.satelliteIdleTicks.removeLong(id);
+        }
+    }
+
+    @Override
+    public void galacticraft$markSatelliteDirty(ResourceLocation id) {
+        if (this.satellites.contains(id)) {
+            this.satellites.reindex(id);
+            this.dirtySatellites.add(id);
+            this.unsyncedSatellites.add(id);
+        }
     }
 
     @Inject(method = "saveEverything", at = @At("RETURN"))
     private void galacticraft_saveSatellites(boolean suppressLogs, boolean bl, boolean bl2, CallbackInfoReturnable<Boolean> cir) {
-        Path path = this.storageSource.getLevelPath(LevelResource.ROOT);
-        ListTag nbt = new ListTag();
-        for (Map.Entry<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>> entry : this.satellites.entrySet()) {
-            CompoundTag compound = (CompoundTag) SatelliteConfig.CODEC.encode(entry.getValue().config(), NbtOps.INSTANCE, new CompoundTag()).getOrThrow();
-            compound.putString("id", entry.getKey().toString());
-            nbt.add(compound);
+        this.galacticraft$saveDirtySatellites();
+    }
+
+    @Inject(method = "stopServer", at = @At("TAIL"))
+    private void galacticraft_flushSatellites(CallbackInfo ci) {
+        this.galacticraft$saveDirtySatellites();
+        this.pendingSatelliteWrites.join();
+    }
+
+    /**
+     * Encodes every satellite that changed since the last save and hands them off to be written.
+     * Encoding has to happen here as the configs may be modified on the server thread,
+     * but compression and file IO happen on the IO pool.
+     * Satellites that fail to be written are marked dirty again so the next save retries them.
+     */
+    @Unique
+    private void galacticraft$saveDirtySatellites() {
+        if (this.dirtySatellites.isEmpty() && !this.deleteLegacySatellites) return;
+
+        Path root = this.storageSource.getLevelPath(LevelResource.ROOT);
+        Path directory = root.resolve(SATELLITES_DIRECTORY);
+        Map<ResourceLocation, CompoundTag> writes = new HashMap<>();
+        List<ResourceLocation> deletes = new ArrayList<>();
+        for (ResourceLocation id : this.dirtySatellites) {
+            CelestialBody<SatelliteConfig, SatelliteType> satellite = this.satellites.get(id);
+            if (satellite == null) {
+                deletes.add(id);
+                continue;
+            }
+            DataResult<Tag> result = SatelliteConfig.CODEC.encode(satellite.config(), NbtOps.INSTANCE, new CompoundTag());
+            if (result.error().isPresent()) {
+                Constant.LOGGER.error("Failed to encode satellite '{}' - {}", id, result.error().get().message());
+                continue;
+            }
+            CompoundTag compound = (CompoundTag) result.getOrThrow();
+            compound.putString("id", id.toString());
+            compound.putBoolean(KEEP_LOADED, this.keepLoadedSatellites.contains(id));
+            writes.put(id, compound);
         }
-        CompoundTag compound = new CompoundTag();
-        compound.put("satellites", nbt);
+        this.dirtySatellites.clear();
+        boolean deleteLegacy = this.deleteLegacySatellites;
+        this.deleteLegacySatellites = false;
+
+        MinecraftServer server = (MinecraftServer) (Object) this;
+        // each write is guarded so that one failure never completes the chain exceptionally and skips later saves
+        this.pendingSatelliteWrites = this.pendingSatelliteWrites.thenRunAsync(() -> {
+            List<ResourceLocation> failed = new ArrayList<>();
+            for (Map.Entry<ResourceLocation, CompoundTag> entry : writes.entrySet()) {
+                Path path = galacticraft$getSatellitePath(directory, entry.getKey());
+                try {
+                    galacticraft$writeAtomically(path, entry.getValue());
+                } catch (Throwable exception) {
+                    failed.add(entry.getKey());
+                    Constant.LOGGER.fatal("Failed to write satellite data to {}!", path, exception);
+                }
+            }
+            for (ResourceLocation id : deletes) {
+                Path path = galacticraft$getSatellitePath(directory, id);
+                try {
+                    Files.deleteIfExists(path);
+                } catch (Throwable exception) {
+                    failed.add(id);
+                    Constant.LOGGER.error("Failed to delete satellite data at {}", path, exception);
+                }
+            }
+            if (deleteLegacy) {
+                if (failed.isEmpty()) {
+                    try {
+                        Files.deleteIfExists(root.resolve(LEGACY_SATELLITES_FILE));
+                    } catch (Throwable exception) {
+                        Constant.LOGGER.error("Failed to delete legacy satellite data", exception);
+                    }
+                } else {
+                    server.execute(() -> this.deleteLegacySatellites = true);
+                }
+            }
+            if (!failed.isEmpty()) {
+                server.execute(() -> this.dirtySatellites.addAll(failed));
+            }
+        }, Util.ioPool()).exceptionally(exception -> {
+            Constant.LOGGER.error("Failed to save satellite data", exception);
+            return null;
+        });
+    }
+
+    @Unique
+    private static Path galacticraft$getSatellitePath(Path directory, ResourceLocation id) {
+        return directory.resolve(id.getNamespace()).resolve(id.getPath() + SATELLITE_EXTENSION);
+    }
+
+    @Unique
+    private static void galacticraft$writeAtomically(Path path, CompoundTag compound) throws IOException {
+        Files.createDirectories(path.getParent());
+        Path temp = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
         try {
-            NbtIo.writeCompressed(compound, path.resolve("satellites.dat"));
-        } catch (Throwable exception) {
-            Constant.LOGGER.fatal("Failed to write satellite data!", exception);
+            NbtIo.writeCompressed(compound, temp);
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
         }
     }
 
     @Inject(method = "runServer", at = @At(value = "INVOKE", target = "Lnet/minecraft/server/MinecraftServer;initServer()Z", shift = At.Shift.AFTER))
     private void galacticraft_loadSatellites(CallbackInfo ci) {
         Path worldFile = this.storageSource.getLevelPath(LevelResource.ROOT);
-        if (Files.exists(worldFile.resolve("satellites.dat"))) {
+        Path directory = worldFile.resolve(SATELLITES_DIRECTORY);
+        if (Files.isDirectory(directory)) {
+            try (Stream<Path> files = Files.walk(directory)) {
+                for (Path path : (Iterable<Path>) files.filter(p -> p.toString().endsWith(SATELLITE_EXTENSION))::iterator) {
+                    this.galacticraft$loadSatellite(NbtIo.readCompressed(path, NbtAccounter.unlimitedHeap()));
+                }
+            } catch (Throwable exception) {
+                throw new RuntimeException("Failed to read satellite data!", exception);
+            }
+        }
+
+        // satellites used to be saved together in a single file; move them over to the per-satellite files
+        if (Files.exists(worldFile.resolve(LEGACY_SATELLITES_FILE))) {
             try {
-                ListTag nbt = NbtIo.readCompressed(worldFile.resolve("satellites.dat"), NbtAccounter.unlimitedHeap()).getList("satellites", NbtType.COMPOUND);
+                ListTag nbt = NbtIo.readCompressed(worldFile.resolve(LEGACY_SATELLITES_FILE), NbtAccounter.unlimitedHeap()).getList("satellites", NbtType.COMPOUND);
                 for (Tag compound : nbt) {
                     assert compound instanceof CompoundTag : "Not a compound?!";
-                    ResourceLocation id = ResourceLocation.parse(((CompoundTag) compound).getString("id"));
-                    DataResult<Pair<SatelliteConfig, Tag>> decode = SatelliteConfig.CODEC.decode(NbtOps.INSTANCE, compound);
-                    if (decode.error().isPresent()) {
-                        Constant.LOGGER.error("Skipping satellite '{}' - {}", id, decode.error().get().message());
-                        continue;
+                    ResourceLocation id = this.galacticraft$loadSatellite((CompoundTag) compound);
+                    if (id != null) {
+                        this.dirtySatellites.add(id);
                     }
-                    this.satellites.put(id, new CelestialBody<>(SatelliteType.INSTANCE, decode.getOrThrow().getFirst()));
                 }
+                this.deleteLegacySatellites = true;
             } catch (Throwable exception) {
                 throw new RuntimeException("Failed to read satellite data!", exception);
             }
         }
     }
 
+    @Unique
+    private ResourceLocation galacticraft$loadSatellite(CompoundTag compound) {
+        ResourceLocation id = ResourceLocation.parse(compound.getString("id"));
+        if (this.satellites.contains(id)) return null;
+        DataResult<Pair<SatelliteConfig, Tag>> decode = SatelliteConfig.CODEC.decode(NbtOps.INSTANCE, compound);
+        if (decode.error().isPresent()) {
+            Constant.LOGGER.error("Skipping satellite '{}' - {}", id, decode.error().get().message());
+            return null;
+        }
+        SatelliteConfig config = decode.getOrThrow().getFirst();
+        this.satellites.put(id, new CelestialBody<>(SatelliteType.INSTANCE, config));
+        config.setChangeListener(() -> this.galacticraft$markSatelliteDirty(id));
+        if (compound.getBoolean(KEEP_LOADED)) {
+            this.keepLoadedSatellites.add(id);
+        }
+        return id;
+    }
+
+    /**
+     * Loads the levels of the satellites that have to be available from the start.
+     * Every other station is only loaded once something needs it, see {@link #galacticraft$loadSatelliteLevel(ResourceKey)}.
+     */
     @Override
     public void galacticraft$loadSatellites(DynamicDimensionLoadCallback.DynamicDimensionLoader dynamicDimensionLoader) {
-        for (Map.Entry<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>> entry : this.satellites.entrySet()) {
+        boolean lazy = Galacticraft.CONFIG.satelliteUnloadDelay() > 0;
+        for (Map.Entry<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>> entry : this.satellites.getSatellites().entrySet()) {
+            if (lazy && !this.keepLoadedSatellites.contains(entry.getKey())) continue;
             LevelStem levelStem = entry.getValue().config().dimensionOptions();
             dynamicDimensionLoader.loadDynamicDimension(entry.getKey(), levelStem.generator(), levelStem.type().value());
         }
     }
+
+    @Override
+    public @Nullable ServerLevel galacticraft$loadSatelliteLevel(ResourceKey<Level> key) {
+        ServerLevel level = this.getLevel(key);
+        if (level != null) return level;
+
+        CelestialBody<SatelliteConfig, SatelliteType> satellite = this.satellites.get(key.location());
+        if (satellite == null) return null;
+
+        Constant.LOGGER.debug("Loading satellite level {}", key.location());
+        LevelStem levelStem = satellite.config().dimensionOptions();
+        level = DynamicDimensionRegistry.from((MinecraftServer) (Object) this).loadDynamicDimension(key.location(), levelStem.generator(), levelStem.type().value());
+        if (level == null) {
+            Constant.LOGGER.error("Failed to load satellite level {}", key.location());
+            return null;
+        }
+        this.satelliteIdleTicks.put(key.location(), 0);
+        return level;
+    }
+
+    @Inject(method = "tickServer", at = @At("TAIL"))
+    private void galacticraft_syncSatellites(BooleanSupplier hasTimeLeft, CallbackInfo ci) {
+        if (this.unsyncedSatellites.isEmpty()) return;
+
+        for (ResourceLocation id : this.unsyncedSatellites) {
+            CelestialBody<SatelliteConfig, SatelliteType> satellite = this.satellites.get(id);
+            CustomPacketPayload payload = satellite != null
+                    ? new AddSatellitePayload(id, this.satellites.getVersion(id), satellite.config())
+                    : new RemoveSatellitePayload(id);
+            for (ServerPlayer player : PlayerLookup.all((MinecraftServer) (Object) this)) {
+                ServerPlayNetworking.send(player, payload);
+            }
+        }
+        this.unsyncedSatellites.clear();
+    }
+
+    @Inject(method = "tickServer", at = @At("TAIL"))
+    private void galacticraft_unloadIdleSatellites(BooleanSupplier hasTimeLeft, CallbackInfo ci) {
+        long delay = Galacticraft.CONFIG.satelliteUnloadDelay();
+        if (this.getTickCount() % IDLE_CHECK_INTERVAL != 0 || this.satellites.isEmpty()) return;
+
+        List<ResourceLocation> idle = new ArrayList<>();
+        for (Map.Entry<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>> entry : this.satellites.getSatellites().entrySet()) {
+            ResourceLocation id = entry.getKey();
+            ServerLevel level = this.getLevel(entry.getValue().config().world());
+            if (level == null) continue;
+
+            boolean keepLoaded = !level.getForcedChunks().isEmpty();
+            if (keepLoaded ? this.keepLoadedSatellites.add(id) : this.keepLoadedSatellites.remove(id)) {
+                this.dirtySatellites.add(id);
+            }
+
+            if (delay <= 0 || keepLoaded || !level.players().isEmpty()) {
+                this.satelliteIdleTicks.put(id, 0);
+            } else if (this.satelliteIdleTicks.mergeLong(id, IDLE_CHECK_INTERVAL, Long::sum) >= delay) {
+                idle.add(id);
+            }
+        }
+
+        for (ResourceLocation id : idle) {
+            Constant.LOGGER.debug("Unloading idle satellite level {}", id);
+            this.satelliteIdleTicks.removeLong(id);
+            // the level has no players left, so there is nobody to move out of it
+            DynamicDimensionRegistry.from((MinecraftServer) (Object) this).unloadDynamicDimension(id, (server, player) -> {});
+        }
+    }
 }
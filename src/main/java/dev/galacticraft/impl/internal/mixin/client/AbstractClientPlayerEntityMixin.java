@@ -27,6 +27,8 @@
 import dev.galacticraft.api.universe.celestialbody.CelestialBody;
 import dev.galacticraft.impl.accessor.SoundSystemAccessor;
 import dev.galacticraft.impl.client.accessor.ClientResearchAccessor;
+import dev.galacticraft.impl.internal.accessor.OxygenSupplyHolder;
+import dev.galacticraft.impl.internal.accessor.TickingAccessoryHolder;
 import dev.galacticraft.impl.internal.inventory.MappedInventory;
 import dev.galacticraft.mod.Constant;
 import dev.galacticraft.mod.world.inventory.GearInventory;
@@ -65,8 +67,9 @@ public abstract class AbstractClientPlayerEntityMixin implements ClientResearchA
 
     @Unique
     private SimpleContainer galacticraft_createGearInventory() {
-        SimpleContainer inv = new GearInventory();
+        SimpleContainer inv = new GearInventory(() -> ((OxygenSupplyHolder) this).galacticraft$flushOxygenSupply());
         inv.addListener((inventory) -> {
+            ((TickingAccessoryHolder) this).galacticraft$invalidateTickingAccessories();
             Holder<CelestialBody<?, ?>> holder = this.clientLevel.galacticraft$getCelestialBody();
             float pressure = holder != null ? holder.value().atmosphere().pressure() : 1.0f;
             if (pressure != 1.0f) {
@@ -24,6 +24,7 @@
 
 import dev.galacticraft.api.client.accessor.ClientSatelliteAccessor;
 import dev.galacticraft.api.universe.celestialbody.CelestialBody;
+import dev.galacticraft.impl.satellite.SatelliteIndex;
 import dev.galacticraft.impl.universe.celestialbody.type.SatelliteType;
 import dev.galacticraft.impl.universe.position.config.SatelliteConfig;
 import net.fabricmc.api.EnvType;
@@ -33,30 +34,58 @@
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Unique;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 
 @Environment(EnvType.CLIENT)
 @Mixin(ClientPacketListener.class)
 public abstract class ClientPlayNetworkHandlerMixin implements ClientSatelliteAccessor {
-    private final @Unique Map<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>> satellites = new HashMap<>();
+    private final @Unique SatelliteIndex satellites = new SatelliteIndex();
     private final @Unique List<SatelliteListener> listeners = new ArrayList<>();
 
     @Override
     public Map<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>> galacticraft$getSatellites() {
-        return this.satellites;
+        return this.satellites.getSatellites();
+    }
+
+    @Override
+    public Collection<CelestialBody<SatelliteConfig, SatelliteType>> galacticraft$getSatellitesOrbiting(CelestialBody<?, ?> parent) {
+        return this.satellites.getOrbiting(parent);
+    }
+
+    @Override
+    public Collection<CelestialBody<SatelliteConfig, SatelliteType>> galacticraft$getSatellitesOwnedBy(UUID owner) {
+        return this.satellites.getOwnedBy(owner);
+    }
+
+    @Override
+    public Collection<CelestialBody<SatelliteConfig, SatelliteType>> galacticraft$getAccessibleSatellites(UUID player) {
+        return this.satellites.getAccessibleBy(player);
+    }
+
+    @Override
+    public int galacticraft$getSatelliteVersion(ResourceLocation id) {
+        return this.satellites.getVersion(id);
     }
 
     @Override
     public void galacticraft$addSatellite(ResourceLocation id, CelestialBody<SatelliteConfig, SatelliteType> satellite) {
         this.satellites.put(id, satellite);
+        satellite.config().setChangeListener(() -> this.galacticraft$markSatelliteDirty(id));
         for (SatelliteListener listener : this.listeners) {
             listener.onSatelliteUpdated(satellite, true);
         }
     }
 
+    @Override
+    public void galacticraft$updateSatellite(ResourceLocation id, CelestialBody<SatelliteConfig, SatelliteType> satellite, int version) {
+        if (this.satellites.update(id, satellite, version)) {
+            satellite.config().setChangeListener(() -> this.galacticraft$markSatelliteDirty(id));
+            for (SatelliteListener listener : this.listeners) {
+                listener.onSatelliteUpdated(satellite, true);
+            }
+        }
+    }
+
     @Override
     public void galacticraft$removeSatellite(ResourceLocation id) {
         CelestialBody<SatelliteConfig, SatelliteType> removed = this.satellites.remove(id);
@@ -65,6 +94,12 @@ public abstract class ClientPlayNetworkHandlerMixin implements ClientSatelliteAc
         }
     }
 
+    @Override
+    public void galacticraft$markSatelliteDirty(ResourceLocation id) {
+        // the server owns the versions; changes made here are only local until the server sends its own
+        this.satellites.refresh(id);
+    }
+
     @Override
     public void addListener(SatelliteListener listener) {
         this.listeners.add(listener);
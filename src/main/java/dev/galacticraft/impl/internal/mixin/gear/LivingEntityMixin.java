@@ -25,29 +25,23 @@
 import dev.galacticraft.api.accessor.GearInventoryProvider;
 import dev.galacticraft.mod.content.entity.orbital.lander.LanderEntity;
 import dev.galacticraft.api.entity.attribute.GcApiEntityAttributes;
-import dev.galacticraft.api.gas.Gases;
 import dev.galacticraft.api.item.Accessory;
 import dev.galacticraft.api.item.OxygenGear;
 import dev.galacticraft.api.item.OxygenMask;
 import dev.galacticraft.mod.tag.GCTags;
+import dev.galacticraft.impl.internal.accessor.InternalLevelOxygenAccessor;
+import dev.galacticraft.impl.internal.accessor.OxygenSupplyHolder;
+import dev.galacticraft.impl.internal.accessor.TickingAccessoryHolder;
 import dev.galacticraft.impl.internal.fabric.GalacticraftAPI;
+import dev.galacticraft.impl.internal.inventory.OxygenSupply;
 import dev.galacticraft.mod.content.block.special.CryogenicChamberBlock;
 import dev.galacticraft.mod.content.block.special.CryogenicChamberPart;
-import dev.galacticraft.mod.content.entity.damage.GCDamageTypes;
 import dev.galacticraft.mod.Galacticraft;
-import net.fabricmc.fabric.api.transfer.v1.context.ContainerItemContext;
-import net.fabricmc.fabric.api.transfer.v1.fluid.FluidStorage;
-import net.fabricmc.fabric.api.transfer.v1.fluid.FluidVariant;
-import net.fabricmc.fabric.api.transfer.v1.item.InventoryStorage;
-import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
-import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
-import net.minecraft.core.Direction;
-import net.minecraft.core.registries.Registries;
+import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.tags.FluidTags;
 import net.minecraft.tags.TagKey;
 import net.minecraft.world.Container;
-import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.damagesource.DamageTypes;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.EntityType;
@@ -60,36 +54,70 @@
 import net.minecraft.world.item.enchantment.EnchantmentHelper;
 import net.minecraft.world.level.GameRules;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.material.Fluid;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import com.llamalad7.mixinextras.injector.ModifyExpressionValue;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Mixin(LivingEntity.class)
-public abstract class LivingEntityMixin extends Entity implements GearInventoryProvider {
+public abstract class LivingEntityMixin extends Entity implements GearInventoryProvider, TickingAccessoryHolder, OxygenSupplyHolder {
     public LivingEntityMixin(EntityType<?> type, Level world) {
         super(type, world);
     }
 
+    @Unique private Level levelCache = null;
+    @Unique private long eyePosCache = Long.MAX_VALUE;
+    @Unique private int oxygenVersionCache = 0;
+    @Unique private boolean breathableCache = true;
+    @Unique private OxygenSupply oxygenSupply = null;
+    @Unique private static final Accessory[] NO_ACCESSORIES = new Accessory[0];
+    @Unique private Accessory[] tickingAccessories = null;
+
     @Shadow protected abstract int increaseAirSupply(int air);
     @Shadow protected abstract int decreaseAirSupply(int air);
 
+    /**
+     * Returns whether the block at this entity's eyes is breathable.
+     * The result is cached until the entity's eyes move to another block or the oxygen in its level changes.
+     */
+    @Unique
+    private boolean galacticraft_isEyeBreathable() {
+        BlockPos pos = this.blockPosition();
+        int x = pos.getX();
+        int y = pos.getY() + (int) Math.floor(this.getEyeHeight(this.getPose()));
+        int z = pos.getZ();
+        long eyePos = BlockPos.asLong(x, y, z);
+        Level level = this.level();
+        int version = ((InternalLevelOxygenAccessor) level).galacticraft$getOxygenVersion();
+        if (eyePos != this.eyePosCache || version != this.oxygenVersionCache || level != this.levelCache) {
+            this.levelCache = level;
+            this.eyePosCache = eyePos;
+            this.oxygenVersionCache = version;
+            this.breathableCache = level.isBreathable(x, y, z);
+        }
+        return this.breathableCache;
+    }
+
     @Inject(method = "baseTick", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/entity/LivingEntity;isEyeInFluid(Lnet/minecraft/tags/TagKey;)Z"))
     private void galacticraft_oxygenCheck(CallbackInfo ci) {
         LivingEntity entity = ((LivingEntity) (Object) this);
+        if (this.galacticraft_isEyeBreathable()) return;
         AttributeInstance attribute = entity.getAttribute(GcApiEntityAttributes.CAN_BREATHE_IN_SPACE);
-        if (!entity.level().isBreathable(entity.blockPosition().relative(Direction.UP, (int) Math.floor(entity.getEyeHeight(entity.getPose())))) && !(attribute != null && attribute.getValue() >= 0.99D)) {
+        if (!(attribute != null && attribute.getValue() >= 0.99D)) {
             if (!entity.isEyeInFluid(GCTags.NON_BREATHABLE) && (!(entity instanceof Player player) || !player.getAbilities().invulnerable)) {
                 entity.setAirSupply(this.decreaseAirSupply(entity.getAirSupply()));
                 if (entity.getAirSupply() == -20) {
                     entity.setAirSupply(0);
-                    entity.hurt(new DamageSource(entity.level().registryAccess()
-                            .registryOrThrow(Registries.DAMAGE_TYPE)
-                            .getHolderOrThrow(GCDamageTypes.SUFFOCATION)), 2.0f);
+                    entity.hurt(entity.level().galacticraft$getDamageSources().suffocation(), 2.0f);
                 }
             }
         }
@@ -97,11 +125,14 @@ private void galacticraft_oxygenCheck(CallbackInfo ci) {
 
     @ModifyExpressionValue(method = "baseTick", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/entity/LivingEntity;isEyeInFluid(Lnet/minecraft/tags/TagKey;)Z", ordinal = 0))
     private boolean galacticraft_testForBreathability(boolean original) {
-        LivingEntity entity = (LivingEntity) (Object) this;
-        if ((entity.getVehicle() instanceof LanderEntity) || (entity.getInBlockState().getBlock() instanceof CryogenicChamberBlock) || (entity.getInBlockState().getBlock() instanceof CryogenicChamberPart)) {
+        if (this.getVehicle() instanceof LanderEntity) {
             return false;
         }
-        return original || this.isEyeInFluid(GCTags.NON_BREATHABLE) || !entity.level().isBreathable(entity.blockPosition().relative(Direction.UP, (int) Math.floor(this.getEyeHeight(entity.getPose()))));
+        Block block = this.getInBlockState().getBlock();
+        if (block instanceof CryogenicChamberBlock || block instanceof CryogenicChamberPart) {
+            return false;
+        }
+        return original || this.isEyeInFluid(GCTags.NON_BREATHABLE) || !this.galacticraft_isEyeBreathable();
     }
 
     @ModifyExpressionValue(method = "baseTick", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/entity/LivingEntity;canBreatheUnderwater()Z"))
@@ -111,35 +142,54 @@ private boolean galacticraft_suffocationDamage(boolean original) {
 
     @Inject(method = "tick", at = @At(value = "RETURN"))
     private void tickAccessories(CallbackInfo ci) {
-        LivingEntity thisEntity = ((LivingEntity) (Object) this);
-        for (int i = 0; i < this.galacticraft$getAccessories().getContainerSize(); i++) {
-            ItemStack stack = this.galacticraft$getAccessories().getItem(i);
-            if (stack.getItem() instanceof Accessory accessory) {
-                accessory.tick(thisEntity);
+        Accessory[] accessories = this.tickingAccessories;
+        if (accessories == null) {
+            accessories = this.tickingAccessories = this.galacticraft_collectAccessories();
+        }
+        for (Accessory accessory : accessories) {
+            accessory.tick((LivingEntity) (Object) this);
+        }
+    }
+
+    @Unique
+    private Accessory[] galacticraft_collectAccessories() {
+        Container inv = this.galacticraft$getAccessories();
+        List<Accessory> accessories = new ArrayList<>(inv.getContainerSize());
+        for (int i = 0; i < inv.getContainerSize(); i++) {
+            if (inv.getItem(i).getItem() instanceof Accessory accessory) {
+                accessories.add(accessory);
             }
         }
+        return accessories.isEmpty() ? NO_ACCESSORIES : accessories.toArray(NO_ACCESSORIES);
+    }
+
+    @Override
+    public void galacticraft$invalidateTickingAccessories() {
+        this.tickingAccessories = null;
     }
 
     @Inject(method = "decreaseAirSupply", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/entity/LivingEntity;getAttribute(Lnet/minecraft/core/Holder;)Lnet/minecraft/world/entity/ai/attributes/AttributeInstance;"), cancellable = true)
     private void galacticraft_modifyAirLevel(int air, CallbackInfoReturnable<Integer> cir) {
         if (this.galacticraft$hasMaskAndGear()) {
-            InventoryStorage tankInv = InventoryStorage.of(galacticraft$getOxygenTanks(), null);
-            for (int i = 0; i < tankInv.getSlotCount(); i++) {
-                Storage<FluidVariant> storage = ContainerItemContext.ofSingleSlot(tankInv.getSlot(i)).find(FluidStorage.ITEM);
-                if (storage != null) {
-                    try (Transaction transaction = Transaction.openOuter()) {
-                        if (storage.extract(FluidVariant.of(Gases.OXYGEN), Galacticraft.CONFIG.playerOxygenConsuptionRate(), transaction) > 0) {
-                            transaction.commit();
-                            cir.setReturnValue(this.increaseAirSupply(air));
-                        }
-                    }
-                }
+            if (this.oxygenSupply == null) {
+                this.oxygenSupply = new OxygenSupply(this.galacticraft$getOxygenTanks());
             }
+            if (this.oxygenSupply.drain(Galacticraft.CONFIG.playerOxygenConsuptionRate())) {
+                cir.setReturnValue(this.increaseAirSupply(air));
+            }
+        }
+    }
+
+    @Override
+    public void galacticraft$flushOxygenSupply() {
+        if (this.oxygenSupply != null) {
+            this.oxygenSupply.flush();
         }
     }
 
     @Inject(method = "dropEquipment", at = @At(value = "RETURN"))
     private void galacticraft_dropGearInventory(CallbackInfo ci) {
+        this.galacticraft$flushOxygenSupply();
         if (!this.level().getGameRules().getBoolean(GameRules.RULE_KEEPINVENTORY)) {
             Container gearInv = this.galacticraft$getGearInv();
             for (int i = 0; i < gearInv.getContainerSize(); ++i) {
@@ -179,6 +229,7 @@ private void galacticraft_dropGearInventory(CallbackInfo ci) {
 
     @Inject(method = "addAdditionalSaveData", at = @At("HEAD"))
     private void galacticraft_writeGearInventory(CompoundTag nbt, CallbackInfo ci) {
+        this.galacticraft$flushOxygenSupply();
         this.galacticraft$writeGearToNbt(nbt);
     }
 
@@ -22,39 +22,20 @@
 
 package dev.galacticraft.impl.internal.mixin.gear;
 
-import dev.galacticraft.impl.network.s2c.GearInvPayload;
-import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
-import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import dev.galacticraft.impl.internal.accessor.GearInventorySyncer;
 import net.minecraft.network.Connection;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.server.network.CommonListenerCookie;
 import net.minecraft.server.players.PlayerList;
-import net.minecraft.world.Container;
-import net.minecraft.world.item.ItemStack;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
-import java.util.Collection;
-
 @Mixin(PlayerList.class)
 public abstract class PlayerListMixin {
     @Inject(method = "placeNewPlayer", at = @At("RETURN"))
     private void syncGearInventory(Connection connection, ServerPlayer player, CommonListenerCookie cookie, CallbackInfo ci) {
-        Container inventory = player.galacticraft$getGearInv();
-        ItemStack[] stacks = new ItemStack[inventory.getContainerSize()];
-        for (int i = 0; i < inventory.getContainerSize(); i++) {
-            stacks[i] = inventory.getItem(i);
-        }
-        GearInvPayload gearInvPayload = new GearInvPayload(player.getId(), stacks);
-
-        Collection<ServerPlayer> tracking = PlayerLookup.tracking(player);
-        if (!tracking.contains(player)) {
-            ServerPlayNetworking.send(player, gearInvPayload);
-        }
-        for (ServerPlayer remote : tracking) {
-            ServerPlayNetworking.send(remote, gearInvPayload);
-        }
+        ((GearInventorySyncer) player).galacticraft$syncGearInventory(true);
     }
 }
@@ -23,6 +23,11 @@
 package dev.galacticraft.impl.internal.mixin.gear;
 
 import dev.galacticraft.api.accessor.GearInventoryProvider;
+import dev.galacticraft.api.item.OxygenGear;
+import dev.galacticraft.api.item.OxygenMask;
+import dev.galacticraft.impl.internal.accessor.GearInventorySyncer;
+import dev.galacticraft.impl.internal.accessor.OxygenSupplyHolder;
+import dev.galacticraft.impl.internal.accessor.TickingAccessoryHolder;
 import dev.galacticraft.impl.internal.inventory.MappedInventory;
 import dev.galacticraft.impl.network.s2c.GearInvPayload;
 import dev.galacticraft.mod.Constant;
@@ -36,15 +41,21 @@
 import net.minecraft.server.network.ServerGamePacketListenerImpl;
 import net.minecraft.world.Container;
 import net.minecraft.world.SimpleContainer;
+import net.minecraft.world.entity.Entity;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.portal.DimensionTransition;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
-import java.util.Collection;
+import java.util.Arrays;
 
 @Mixin(ServerPlayer.class)
-public abstract class ServerPlayerMixin implements GearInventoryProvider {
+public abstract class ServerPlayerMixin implements GearInventoryProvider, GearInventorySyncer {
     @Shadow public ServerGamePacketListenerImpl connection;
 
     @Shadow public abstract ServerLevel serverLevel();
@@ -53,29 +64,77 @@ public abstract class ServerPlayerMixin implements GearInventoryProvider {
     private final @Unique Container tankInv = MappedInventory.create(this.gearInv, 4, 5);
     private final @Unique Container thermalArmorInv = MappedInventory.create(this.gearInv, 0, 1, 2, 3);
     private final @Unique Container accessoryInv = MappedInventory.create(this.gearInv, 6, 7, 8, 9, 10, 11);
+    private final @Unique ItemStack[] syncedGear = galacticraft_createSyncedGear(this.gearInv.getContainerSize());
+    private @Unique boolean gearChanged = false;
 
     @Unique
     private SimpleContainer galacticraft_createGearInventory() {
-        SimpleContainer inv = new GearInventory();
+        SimpleContainer inv = new GearInventory(() -> ((OxygenSupplyHolder) this).galacticraft$flushOxygenSupply());
         inv.addListener((inventory) -> {
-            ItemStack[] stacks = new ItemStack[inventory.getContainerSize()];
-            for (int i = 0; i < inventory.getContainerSize(); i++) {
-                stacks[i] = inventory.getItem(i);
-            }
-            ServerPlayer player = (ServerPlayer) (Object) this;
-            GearInvPayload payload = new GearInvPayload(player.getId(), stacks);
+            this.gearChanged = true;
+            ((TickingAccessoryHolder) this).galacticraft$invalidateTickingAccessories();
+        });
+        return inv;
+    }
+
+    @Unique
+    private static ItemStack[] galacticraft_createSyncedGear(int size) {
+        ItemStack[] stacks = new ItemStack[size];
+        Arrays.fill(stacks, ItemStack.EMPTY);
+        return stacks;
+    }
+
+    /**
+     * Returns whether other players need to know about the contents of a gear slot.
+     * Only thermal armor, oxygen tanks and the oxygen mask and gear are visible on a player.
+     */
+    @Unique
+    private static boolean galacticraft_isVisible(int slot, ItemStack stack) {
+        return slot < 6 || stack.getItem() instanceof OxygenMask || stack.getItem() instanceof OxygenGear;
+    }
 
-            if (this.connection != null) {
-                Collection<ServerPlayer> tracking = PlayerLookup.tracking(player);
-                if (!tracking.contains(player)) {
-                    ServerPlayNetworking.send(player, payload);
+    @Inject(method = "tick", at = @At("TAIL"))
+    private void galacticraft_flushGearInventory(CallbackInfo ci) {
+        if (this.gearChanged) {
+            this.gearChanged = false;
+            this.galacticraft$syncGearInventory(false);
+        }
+    }
+
+    @Inject(method = "changeDimension", at = @At("RETURN"))
+    private void galacticraft_resyncGearInventory(DimensionTransition transition, CallbackInfoReturnable<Entity> cir) {
+        // the client recreates its player when changing dimensions
+        this.galacticraft$syncGearInventory(true);
+    }
+
+    @Override
+    public void galacticraft$syncGearInventory(boolean full) {
+        if (this.connection == null) return;
+
+        int changed = 0;
+        int visible = 0;
+        for (int i = 0; i < this.gearInv.getContainerSize(); i++) {
+            ItemStack stack = this.gearInv.getItem(i);
+            if (full || !ItemStack.matches(stack, this.syncedGear[i])) {
+                changed |= 1 << i;
+                if (galacticraft_isVisible(i, stack) || galacticraft_isVisible(i, this.syncedGear[i])) {
+                    visible |= 1 << i;
                 }
-                for (ServerPlayer remote : tracking) {
+                this.syncedGear[i] = stack.copy();
+            }
+        }
+        if (changed == 0) return;
+
+        ServerPlayer player = (ServerPlayer) (Object) this;
+        ServerPlayNetworking.send(player, GearInvPayload.create(player.getId(), this.gearInv, changed));
+        if (visible != 0) {
+            GearInvPayload payload = GearInvPayload.create(player.getId(), this.gearInv, visible);
+            for (ServerPlayer remote : PlayerLookup.tracking(player)) {
+                if (remote != player) {
                     ServerPlayNetworking.send(remote, payload);
                 }
             }
-        });
-        return inv;
+        }
     }
 
     @Override
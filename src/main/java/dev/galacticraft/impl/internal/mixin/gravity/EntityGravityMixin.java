@@ -22,24 +22,36 @@
 
 package dev.galacticraft.impl.internal.mixin.gravity;
 
-import dev.galacticraft.api.universe.celestialbody.CelestialBody;
-import net.minecraft.core.Holder;
+import dev.galacticraft.api.accessor.EntityGravityAccessor;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.Level;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Redirect;
 
 @Mixin(Entity.class)
-public abstract class EntityGravityMixin {
+public abstract class EntityGravityMixin implements EntityGravityAccessor {
+    @Unique
+    private double gravityOverride = Double.NaN;
+
     @Shadow protected abstract double getDefaultGravity();
 
     @Shadow private Level level;
 
     @Redirect(method = "getGravity", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/entity/Entity;getDefaultGravity()D"))
     private double replaceGravity(Entity instance) {
-        Holder<CelestialBody<?, ?>> holder = this.level.galacticraft$getCelestialBody();
-        return (holder != null ? holder.value().gravity() : 1.0d) * this.getDefaultGravity();
+        return this.galacticraft$getGravityMultiplier() * this.getDefaultGravity();
+    }
+
+    @Override
+    public double galacticraft$getGravityMultiplier() {
+        return Double.isNaN(this.gravityOverride) ? this.level.galacticraft$getGravity() : this.gravityOverride;
+    }
+
+    @Override
+    public void galacticraft$setGravityOverride(double multiplier) {
+        this.gravityOverride = multiplier;
     }
 }
@@ -25,6 +25,7 @@
 import dev.galacticraft.impl.internal.accessor.ChunkOxygenAccessor;
 import dev.galacticraft.impl.internal.accessor.ChunkOxygenSyncer;
 import dev.galacticraft.impl.internal.accessor.ChunkSectionOxygenAccessor;
+import dev.galacticraft.impl.internal.accessor.InternalLevelOxygenAccessor;
 import dev.galacticraft.impl.network.s2c.OxygenUpdatePayload;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Registry;
@@ -46,6 +47,7 @@
 import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
 import java.util.BitSet;
@@ -54,6 +56,7 @@
 public abstract class LevelChunkMixin extends ChunkAccess implements ChunkOxygenAccessor, ChunkOxygenSyncer {
     @Shadow @Final Level level;
     private @Unique short dirtySections = 0b0;
+    private @Unique boolean hadInvertedOxygen = false;
 
     private LevelChunkMixin(ChunkPos pos, UpgradeData upgradeData, LevelHeightAccessor heightLimitView, Registry<Biome> biome, long inhabitedTime, @Nullable LevelChunkSection[] sectionArrayInitializer, @Nullable BlendingData blendingData) {
         super(pos, upgradeData, heightLimitView, biome, inhabitedTime, sectionArrayInitializer, blendingData);
@@ -73,6 +76,7 @@ private LevelChunkMixin(ChunkPos pos, UpgradeData upgradeData, LevelHeightAccess
                 this.dirtySections |= (short) (0b1 << this.getSectionIndex(y));
             }
             accessor.galacticraft$setInverted(x, y & 15, z, inverted);
+            ((InternalLevelOxygenAccessor) this.level).galacticraft$markOxygenChanged();
         }
     }
 
@@ -107,6 +111,35 @@ private LevelChunkMixin(ChunkPos pos, UpgradeData upgradeData, LevelHeightAccess
         for (OxygenUpdatePayload.@NotNull OxygenData oxygenData : buf) {
             ((ChunkSectionOxygenAccessor) this.sections[oxygenData.section()]).galacticraft$setBits(oxygenData.data());
         }
+        ((InternalLevelOxygenAccessor) this.level).galacticraft$markOxygenChanged();
+    }
+
+    @Inject(method = "<init>(Lnet/minecraft/world/level/Level;Lnet/minecraft/world/level/ChunkPos;Lnet/minecraft/world/level/chunk/UpgradeData;Lnet/minecraft/world/ticks/LevelChunkTicks;Lnet/minecraft/world/ticks/LevelChunkTicks;J[Lnet/minecraft/world/level/chunk/LevelChunkSection;Lnet/minecraft/world/level/chunk/LevelChunk$PostLoadProcessor;Lnet/minecraft/world/level/levelgen/blending/BlendingData;)V", at = @At("RETURN"))
+    private void markOxygenChangedOnLoad(CallbackInfo ci) {
+        // a chunk without inverted blocks answers every query the same way as no chunk at all
+        if (this.galacticraft$hasInvertedOxygen()) {
+            ((InternalLevelOxygenAccessor) this.level).galacticraft$markOxygenChanged();
+        }
+    }
+
+    @Inject(method = "replaceWithPacketData", at = @At("HEAD"))
+    private void recordOxygenBeforeReplace(CallbackInfo ci) {
+        this.hadInvertedOxygen = this.galacticraft$hasInvertedOxygen();
+    }
+
+    @Inject(method = "replaceWithPacketData", at = @At("RETURN"))
+    private void markOxygenChangedOnReplace(CallbackInfo ci) {
+        if (this.hadInvertedOxygen || this.galacticraft$hasInvertedOxygen()) {
+            ((InternalLevelOxygenAccessor) this.level).galacticraft$markOxygenChanged();
+        }
+    }
+
+    @Unique
+    private boolean galacticraft$hasInvertedOxygen() {
+        for (LevelChunkSection section : this.sections) {
+            if (!((ChunkSectionOxygenAccessor) section).galacticraft$isEmpty()) return true;
+        }
+        return false;
     }
 
     @Inject(method = "setBlockState", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/level/block/state/BlockState;getBlock()Lnet/minecraft/world/level/block/Block;", ordinal = 0))
@@ -48,6 +48,7 @@
 @Mixin(Level.class)
 public abstract class LevelMixin implements LevelOxygenAccessor, InternalLevelOxygenAccessor, LevelAccessor {
     private @Unique boolean breathable = true;
+    private @Unique int oxygenVersion = 0;
 
     @Shadow public abstract @NotNull LevelChunk getChunk(int i, int j);
 
@@ -96,6 +97,17 @@ public boolean getDefaultBreathable() {
     @Override
     public void setDefaultBreathable(boolean breathable) {
         this.breathable = breathable;
+        this.oxygenVersion++;
+    }
+
+    @Override
+    public int galacticraft$getOxygenVersion() {
+        return this.oxygenVersion;
+    }
+
+    @Override
+    public void galacticraft$markOxygenChanged() {
+        this.oxygenVersion++;
     }
 
     @Unique
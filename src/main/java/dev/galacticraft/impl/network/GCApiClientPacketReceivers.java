@@ -36,6 +36,7 @@ public static void register() {
         registerPacket(OxygenUpdatePayload.TYPE);
         registerPacket(RemoveSatellitePayload.TYPE);
         registerPacket(ResearchUpdatePayload.TYPE);
+        registerPacket(SyncSatellitesPayload.TYPE);
     }
 
     public static <P extends S2CPayload> void registerPacket(CustomPacketPayload.Type<P> type) {
@@ -29,18 +29,25 @@
 import dev.galacticraft.mod.Constant;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
 import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.minecraft.resources.ResourceLocation;
 import org.jetbrains.annotations.NotNull;
 
-public record AddSatellitePayload(ResourceLocation id, SatelliteConfig config) implements S2CPayload {
+/**
+ * Adds or updates a single satellite on the client.
+ * The version lets the client drop updates it has already received through {@link SyncSatellitesPayload}.
+ */
+public record AddSatellitePayload(ResourceLocation id, int version, SatelliteConfig config) implements S2CPayload {
     public static final ResourceLocation ID = Constant.id("add_satellite");
     public static final Type<AddSatellitePayload> TYPE = new Type<>(ID);
     public static final StreamCodec<RegistryFriendlyByteBuf, AddSatellitePayload> CODEC = StreamCodec.composite(
             ResourceLocation.STREAM_CODEC,
             p -> p.id,
-            SatelliteConfig.STREAM_CODEC,
+            ByteBufCodecs.VAR_INT,
+            p -> p.version,
+            SatelliteConfig.CLIENT_STREAM_CODEC,
             p -> p.config,
             AddSatellitePayload::new);
 
@@ -51,6 +58,6 @@ public record AddSatellitePayload(ResourceLocation id, SatelliteConfig config) i
 
     @Override
     public Runnable handle(ClientPlayNetworking.@NotNull Context context) {
-        return () -> ((ClientSatelliteAccessor) context.client().player.connection).galacticraft$addSatellite(this.id, new CelestialBody<>(SatelliteType.INSTANCE, this.config));
+        return () -> ((ClientSatelliteAccessor) context.client().player.connection).galacticraft$updateSatellite(this.id, new CelestialBody<>(SatelliteType.INSTANCE, this.config), this.version);
     }
 }
@@ -37,17 +37,36 @@
 
 import java.util.Objects;
 
-public record GearInvPayload(int entityId, ItemStack[] items) implements S2CPayload {
+/**
+ * Updates some of the gear inventory slots of an entity.
+ *
+ * @param entityId the id of the entity
+ * @param slots a bit set of the slots being updated
+ * @param items the new contents of the updated slots, in slot order
+ */
+public record GearInvPayload(int entityId, int slots, ItemStack[] items) implements S2CPayload {
     public static final ResourceLocation ID = Constant.id("gear_inv");
     public static final Type<GearInvPayload> TYPE = new Type<>(ID);
     public static final StreamCodec<RegistryFriendlyByteBuf, GearInvPayload> CODEC = StreamCodec.composite(
             ByteBufCodecs.VAR_INT,
             GearInvPayload::entityId,
+            ByteBufCodecs.VAR_INT,
+            GearInvPayload::slots,
             StreamCodecs.array(ItemStack.OPTIONAL_STREAM_CODEC, ItemStack[]::new),
             GearInvPayload::items,
             GearInvPayload::new
     );
 
+    public static GearInvPayload create(int entityId, Container inventory, int slots) {
+        ItemStack[] items = new ItemStack[Integer.bitCount(slots)];
+        for (int i = 0, j = 0; j < items.length; i++) {
+            if ((slots & (1 << i)) != 0) {
+                items[j++] = inventory.getItem(i);
+            }
+        }
+        return new GearInvPayload(entityId, slots, items);
+    }
+
     @Override
     public @NotNull Type<? extends CustomPacketPayload> type() {
         return TYPE;
@@ -57,8 +76,10 @@ public record GearInvPayload(int entityId, ItemStack[] items) implements S2CPayl
     public Runnable handle(ClientPlayNetworking.@NotNull Context context) {
         return () -> {
             Container container = ((GearInventoryProvider) Objects.requireNonNull(context.client().level.getEntity(this.entityId))).galacticraft$getGearInv();
-            for (int i = 0; i < this.items.length; i++) {
-                container.setItem(i, this.items[i]);
+            for (int i = 0, j = 0; j < this.items.length; i++) {
+                if ((this.slots & (1 << i)) != 0) {
+                    container.setItem(i, this.items[j++]);
+                }
             }
         };
     }
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.impl.network.s2c;
+
+import dev.galacticraft.api.accessor.SatelliteAccessor;
+import dev.galacticraft.api.universe.celestialbody.CelestialBody;
+import dev.galacticraft.impl.universe.celestialbody.type.SatelliteType;
+import dev.galacticraft.impl.universe.position.config.SatelliteConfig;
+import dev.galacticraft.mod.Constant;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sends every satellite to a player once, when they join.
+ * Changes after that are sent individually through {@link AddSatellitePayload} and {@link RemoveSatellitePayload}.
+ */
+public record SyncSatellitesPayload(List<AddSatellitePayload> satellites) implements S2CPayload {
+    public static final ResourceLocation ID = Constant.id("sync_satellites");
+    public static final Type<SyncSatellitesPayload> TYPE = new Type<>(ID);
+    public static final StreamCodec<RegistryFriendlyByteBuf, SyncSatellitesPayload> CODEC = AddSatellitePayload.CODEC
+            .apply(ByteBufCodecs.list())
+            .map(SyncSatellitesPayload::new, SyncSatellitesPayload::satellites);
+
+    public static SyncSatellitesPayload create(SatelliteAccessor accessor) {
+        List<AddSatellitePayload> satellites = new ArrayList<>(accessor.galacticraft$getSatellites().size());
+        for (Map.Entry<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>> entry : accessor.galacticraft$getSatellites().entrySet()) {
+            satellites.add(new AddSatellitePayload(entry.getKey(), accessor.galacticraft$getSatelliteVersion(entry.getKey()), entry.getValue().config()));
+        }
+        return new SyncSatellitesPayload(satellites);
+    }
+
+    @Override
+    public Runnable handle(ClientPlayNetworking.@NotNull Context context) {
+        return () -> {
+            for (AddSatellitePayload satellite : this.satellites) {
+                satellite.handle(context).run();
+            }
+        };
+    }
+
+    @Override
+    public @NotNull Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.impl.satellite;
+
+import dev.galacticraft.api.satellite.SatelliteOwnershipData;
+import dev.galacticraft.api.universe.celestialbody.CelestialBody;
+import dev.galacticraft.impl.universe.celestialbody.type.SatelliteType;
+import dev.galacticraft.impl.universe.position.config.SatelliteConfig;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.core.Holder;
+import net.minecraft.resources.ResourceLocation;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnmodifiableView;
+
+import java.util.*;
+
+/**
+ * The satellites known to a server or client, indexed by the body they orbit and by the players that can access them.
+ * Every lookup returns a live, read-only view, so nothing is copied when the satellites are queried.
+ * <p>
+ * Each satellite also carries a version that is bumped whenever it is replaced or modified,
+ * which lets clients ignore updates older than what they already have.
+ * Versions come from a single counter, so a satellite that is removed and added again under the same id
+ * never reuses a version a client may still hold.
+ */
+public class SatelliteIndex {
+    private final Map<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>> satellites = new LinkedHashMap<>();
+    private final Map<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>> view = Collections.unmodifiableMap(this.satellites);
+    // registered celestial bodies are unique instances, so they can be compared by identity
+    private final Map<CelestialBody<?, ?>, Map<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>>> byParent = new Reference2ObjectOpenHashMap<>();
+    private final Map<UUID, Map<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>>> byOwner = new HashMap<>();
+    private final Map<UUID, Map<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>>> byAccess = new HashMap<>();
+    private final Object2IntMap<ResourceLocation> versions = new Object2IntOpenHashMap<>();
+    private int lastVersion = 0;
+
+    public @UnmodifiableView Map<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>> getSatellites() {
+        return this.view;
+    }
+
+    public @Nullable CelestialBody<SatelliteConfig, SatelliteType> get(ResourceLocation id) {
+        return this.satellites.get(id);
+    }
+
+    public boolean contains(ResourceLocation id) {
+        return this.satellites.containsKey(id);
+    }
+
+    public int getVersion(ResourceLocation id) {
+        return this.versions.getInt(id);
+    }
+
+    public boolean isEmpty() {
+        return this.satellites.isEmpty();
+    }
+
+    public @UnmodifiableView Collection<CelestialBody<SatelliteConfig, SatelliteType>> getOrbiting(CelestialBody<?, ?> parent) {
+        return view(this.byParent.get(parent));
+    }
+
+    public @UnmodifiableView Collection<CelestialBody<SatelliteConfig, SatelliteType>> getOwnedBy(UUID owner) {
+        return view(this.byOwner.get(owner));
+    }
+
+    /**
+     * Returns the satellites the given player owns or is trusted on.
+     */
+    public @UnmodifiableView Collection<CelestialBody<SatelliteConfig, SatelliteType>> getAccessibleBy(UUID player) {
+        return view(this.byAccess.get(player));
+    }
+
+    public void put(ResourceLocation id, CelestialBody<SatelliteConfig, SatelliteType> satellite) {
+        this.put(id, satellite, ++this.lastVersion);
+    }
+
+    /**
+     * Adds or replaces a satellite unless the given version is not newer than the one already present.
+     *
+     * @return whether the satellite was added or replaced
+     */
+    public boolean update(ResourceLocation id, CelestialBody<SatelliteConfig, SatelliteType> satellite, int version) {
+        if (this.satellites.containsKey(id) && version <= this.versions.getInt(id)) return false;
+        this.put(id, satellite, version);
+        return true;
+    }
+
+    private void put(ResourceLocation id, CelestialBody<SatelliteConfig, SatelliteType> satellite, int version) {
+        CelestialBody<SatelliteConfig, SatelliteType> previous = this.satellites.put(id, satellite);
+        if (previous != null) {
+            this.unindex(id, previous);
+        }
+        this.index(id, satellite);
+        this.versions.put(id, version);
+        this.lastVersion = Math.max(this.lastVersion, version);
+    }
+
+    public @Nullable CelestialBody<SatelliteConfig, SatelliteType> remove(ResourceLocation id) {
+        CelestialBody<SatelliteConfig, SatelliteType> removed = this.satellites.remove(id);
+        if (removed != null) {
+            this.unindex(id, removed);
+            this.versions.removeInt(id);
+        }
+        return removed;
+    }
+
+    /**
+     * Rebuilds the index entries of a satellite that was modified in place, and bumps its version.
+     */
+    public void reindex(ResourceLocation id) {
+        if (this.refresh(id)) {
+            this.versions.put(id, ++this.lastVersion);
+        }
+    }
+
+    /**
+     * Rebuilds the index entries of a satellite that was modified in place, without changing its version.
+     *
+     * @return whether the satellite is present
+     */
+    public boolean refresh(ResourceLocation id) {
+        CelestialBody<SatelliteConfig, SatelliteType> satellite = this.satellites.get(id);
+        if (satellite == null) return false;
+        this.unindex(id, satellite);
+        this.index(id, satellite);
+        return true;
+    }
+
+    private void index(ResourceLocation id, CelestialBody<SatelliteConfig, SatelliteType> satellite) {
+        SatelliteOwnershipData ownership = satellite.config().ownershipData();
+        Holder<CelestialBody<?, ?>> parent = satellite.config().parent();
+        this.byParent.computeIfAbsent(parent.value(), k -> new LinkedHashMap<>()).put(id, satellite);
+        this.byOwner.computeIfAbsent(ownership.owner(), k -> new LinkedHashMap<>()).put(id, satellite);
+        this.byAccess.computeIfAbsent(ownership.owner(), k -> new LinkedHashMap<>()).put(id, satellite);
+        for (UUID trusted : ownership.trusted()) {
+            this.byAccess.computeIfAbsent(trusted, k -> new LinkedHashMap<>()).put(id, satellite);
+        }
+    }
+
+    private void unindex(ResourceLocation id, CelestialBody<SatelliteConfig, SatelliteType> satellite) {
+        removeFrom(this.byParent, satellite.config().parent().value(), id);
+        removeFrom(this.byOwner, satellite.config().ownershipData().owner(), id);
+        // the trusted players may have changed since the satellite was indexed
+        this.byAccess.values().removeIf(satellites -> satellites.remove(id) != null && satellites.isEmpty());
+    }
+
+    private static <K> void removeFrom(Map<K, Map<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>>> index, K key, ResourceLocation id) {
+        Map<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>> satellites = index.get(key);
+        if (satellites != null && satellites.remove(id) != null && satellites.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static @UnmodifiableView Collection<CelestialBody<SatelliteConfig, SatelliteType>> view(@Nullable Map<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>> satellites) {
+        return satellites == null ? Collections.emptyList() : Collections.unmodifiableCollection(satellites.values());
+    }
+}
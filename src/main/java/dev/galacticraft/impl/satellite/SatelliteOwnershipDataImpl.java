@@ -39,6 +39,7 @@ public class SatelliteOwnershipDataImpl implements SatelliteOwnershipData {
     private final List<UUID> trusted;
     private String username;
     private final boolean open;
+    private Runnable changeListener = () -> {};
 
     public SatelliteOwnershipDataImpl(@NotNull UUID owner, String username, List<UUID> trusted, boolean open) {
         this.owner = owner;
@@ -57,17 +58,28 @@ public SatelliteOwnershipDataImpl(@NotNull UUID owner, String username, List<UUI
     }
 
     public static @NotNull SatelliteOwnershipDataImpl fromPacket(@NotNull FriendlyByteBuf buf) {
+        UUID owner = buf.readUUID();
+        String username = buf.readUtf();
+        boolean open = buf.readBoolean();
         int size = buf.readInt();
-        SatelliteOwnershipDataImpl data = new SatelliteOwnershipDataImpl(buf.readUUID(), buf.readUtf(), new ArrayList<>(size), buf.readBoolean());
+        SatelliteOwnershipDataImpl data = new SatelliteOwnershipDataImpl(owner, username, new ArrayList<>(size), open);
         for (int i = 0; i < size; i++) {
             data.trusted.add(buf.readUUID());
         }
         return data;
     }
 
+    /**
+     * Sets what to notify when the username or the trusted players change, see {@link dev.galacticraft.impl.universe.position.config.SatelliteConfig#setChangeListener(Runnable)}.
+     */
+    public void setChangeListener(Runnable changeListener) {
+        this.changeListener = changeListener;
+    }
+
     @Override
     public void username(String username) {
         this.username = username;
+        this.changeListener.run();
     }
 
     @Override
@@ -92,12 +104,17 @@ public boolean open() {
 
     @Override
     public void trust(UUID uuid) {
-        this.trusted.add(uuid);
+        if (!this.trusted.contains(uuid)) {
+            this.trusted.add(uuid);
+            this.changeListener.run();
+        }
     }
 
     @Override
     public void distrust(UUID uuid) {
-        this.trusted.remove(uuid);
+        if (this.trusted.remove(uuid)) {
+            this.changeListener.run();
+        }
     }
 
     @Override
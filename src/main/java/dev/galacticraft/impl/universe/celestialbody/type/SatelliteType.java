@@ -37,7 +37,6 @@
 import dev.galacticraft.api.universe.galaxy.Galaxy;
 import dev.galacticraft.api.universe.position.CelestialPosition;
 import dev.galacticraft.dynamicdimensions.api.DynamicDimensionRegistry;
-import dev.galacticraft.impl.network.s2c.AddSatellitePayload;
 import dev.galacticraft.impl.universe.BuiltinObjects;
 import dev.galacticraft.impl.universe.display.config.IconCelestialDisplayConfig;
 import dev.galacticraft.impl.universe.display.config.ring.DefaultCelestialRingDisplayConfig;
@@ -50,7 +49,6 @@
 import dev.galacticraft.mod.data.gen.SatelliteChunkGenerator;
 import dev.galacticraft.mod.util.Translations;
 import dev.galacticraft.mod.world.biome.GCBiomes;
-import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.minecraft.core.Holder;
 import net.minecraft.core.RegistryAccess;
 import net.minecraft.core.registries.Registries;
@@ -68,7 +66,6 @@
 import net.minecraft.world.level.chunk.status.ChunkStatus;
 import net.minecraft.world.level.dimension.DimensionType;
 import net.minecraft.world.level.dimension.LevelStem;
-import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplate;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -104,19 +101,24 @@ protected SatelliteType(Codec<SatelliteConfig> codec) {
         super(codec);
     }
 
+    /**
+     * Creates a new space station for the player orbiting the given parent.
+     *
+     * @return the new satellite, or {@code null} if the player already has a station around the parent
+     */
     @ApiStatus.Internal
-    public static CelestialBody<SatelliteConfig, SatelliteType> registerSatellite(@NotNull MinecraftServer server, @NotNull ServerPlayer player, Holder<CelestialBody<?, ?>> parent, StructureTemplate structure) {
+    public static @Nullable CelestialBody<SatelliteConfig, SatelliteType> registerSatellite(@NotNull MinecraftServer server, @NotNull ServerPlayer player, Holder<CelestialBody<?, ?>> parent, ResourceLocation structure) {
         ResourceLocation id = ResourceLocation.parse(parent.unwrapKey().get().location() + "_" + player.getScoreboardName().toLowerCase(Locale.ROOT));
+        // stations that are not loaded have no level, so check the satellites themselves as well
+        if (((SatelliteAccessor) server).galacticraft$getSatellites().containsKey(id) || DynamicDimensionRegistry.from(server).anyDimensionExists(id)) {
+            return null;
+        }
         DimensionType type = new DimensionType(OptionalLong.empty(), true, false, false, true, 1, false, false, 0, 256, 256, TagKey.create(Registries.BLOCK, Constant.id("infiniburn_space")), Constant.id("space_sky"), 0, new DimensionType.MonsterSettings(false, true, UniformInt.of(0, 7), 0));
         SatelliteChunkGenerator chunkGenerator = new SatelliteChunkGenerator(server.registryAccess().registryOrThrow(Registries.BIOME).getHolderOrThrow(GCBiomes.SPACE), structure);
         SatelliteOwnershipData ownershipData = SatelliteOwnershipData.create(player.getUUID(), player.getScoreboardName(), new LinkedList<>(), false);
         CelestialPosition<?, ?> position = new CelestialPosition<>(OrbitalCelestialPositionType.INSTANCE, new OrbitalCelestialPositionConfig(1550, 10.0f, 0.0F, false));
         CelestialDisplay<?, ?> display = new CelestialDisplay<>(IconCelestialDisplayType.INSTANCE, new IconCelestialDisplayConfig(Constant.id("satellite"), 0, 0, 16, 16));
         CelestialRingDisplay<?, ?> ring = new CelestialRingDisplay<>(DefaultCelestialRingDisplayType.INSTANCE, new DefaultCelestialRingDisplayConfig());
-        ResourceKey<Level> key = ResourceKey.create(Registries.DIMENSION, id);
-        DynamicDimensionRegistry registry = DynamicDimensionRegistry.from(server);
-        assert server.getLevel(key) == null : "World already registered?!";
-        assert registry.anyDimensionExists(id) : "Dimension Type already registered?!";
         return create(id, server, parent, position, display, ring, chunkGenerator, type, ownershipData, player.getGameProfile().getName() + "'s Space Station");
     }
 
@@ -132,11 +134,8 @@ public static CelestialBody<SatelliteConfig, SatelliteType> create(ResourceLocat
         SatelliteConfig config = new SatelliteConfig(parent, parent.value().galaxy(), position, display, ring, ownershipData, ResourceKey.create(Registries.DIMENSION, id), direct, EMPTY_GAS_COMPOSITION, 0.0f, parent.value().type() instanceof Tiered<?> ? ((Tiered) parent.value().type()).accessWeight(parent.value().config()) : 1, new LevelStem(Holder.direct(type), generator));
         config.customName(Component.translatable(name));
         CelestialBody<SatelliteConfig, SatelliteType> satellite = INSTANCE.configure(config);
+        // the new satellite is sent to every player at the end of the tick
         ((SatelliteAccessor) server).galacticraft$addSatellite(id, satellite);
-
-        for (ServerPlayer player : server.getPlayerList().getPlayers()) {
-            ServerPlayNetworking.send(player, new AddSatellitePayload(id, satellite.config()));
-        }
         return satellite;
     }
 
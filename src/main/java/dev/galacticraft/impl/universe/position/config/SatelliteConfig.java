@@ -34,11 +34,14 @@
 import dev.galacticraft.api.universe.display.ring.CelestialRingDisplay;
 import dev.galacticraft.api.universe.galaxy.Galaxy;
 import dev.galacticraft.api.universe.position.CelestialPosition;
+import dev.galacticraft.impl.satellite.SatelliteOwnershipDataImpl;
 import dev.galacticraft.mod.util.StreamCodecs;
 import net.minecraft.core.Holder;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.ComponentSerialization;
+import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.resources.RegistryFileCodec;
 import net.minecraft.resources.ResourceKey;
@@ -63,6 +66,18 @@ public final class SatelliteConfig implements CelestialBodyConfig {
             LevelStem.CODEC.fieldOf("dimension_options").forGetter(SatelliteConfig::dimensionOptions)
     ).apply(instance, SatelliteConfig::new));
     public static final StreamCodec<RegistryFriendlyByteBuf, SatelliteConfig> STREAM_CODEC = StreamCodecs.wrapCodec(CODEC);
+    private static final StreamCodec<RegistryFriendlyByteBuf, Holder<Galaxy>> GALAXY_STREAM_CODEC = StreamCodecs.ofHolder(AddonRegistries.GALAXY);
+    private static final StreamCodec<RegistryFriendlyByteBuf, Holder<CelestialTeleporter<?, ?>>> TELEPORTER_STREAM_CODEC = StreamCodecs.ofHolder(AddonRegistries.CELESTIAL_TELEPORTER);
+    private static final StreamCodec<RegistryFriendlyByteBuf, CelestialPosition<?, ?>> POSITION_STREAM_CODEC = ByteBufCodecs.fromCodecWithRegistries(CelestialPosition.CODEC);
+    private static final StreamCodec<RegistryFriendlyByteBuf, CelestialDisplay<?, ?>> DISPLAY_STREAM_CODEC = ByteBufCodecs.fromCodecWithRegistries(CelestialDisplay.CODEC);
+    private static final StreamCodec<RegistryFriendlyByteBuf, CelestialRingDisplay<?, ?>> RING_STREAM_CODEC = ByteBufCodecs.fromCodecWithRegistries(CelestialRingDisplay.CODEC);
+    private static final StreamCodec<RegistryFriendlyByteBuf, GasComposition> ATMOSPHERE_STREAM_CODEC = ByteBufCodecs.fromCodecWithRegistries(GasComposition.CODEC);
+    /**
+     * Syncs what clients need to show a satellite, including its custom name.
+     * The dimension options (and with them the station's chunk generator) are only used by the server and are left out,
+     * so configs decoded with this codec have no dimension options.
+     */
+    public static final StreamCodec<RegistryFriendlyByteBuf, SatelliteConfig> CLIENT_STREAM_CODEC = StreamCodec.of(SatelliteConfig::writeClient, SatelliteConfig::readClient);
 
     private final Holder<CelestialBody<?, ?>> parent;
     private final Holder<Galaxy> galaxy;
@@ -77,6 +92,7 @@ public final class SatelliteConfig implements CelestialBodyConfig {
     private final int accessWeight;
     private final LevelStem options;
     private Component customName = Component.empty();
+    private Runnable changeListener = () -> {};
 
     public SatelliteConfig(Holder<CelestialBody<?, ?>> parent, Holder<Galaxy> galaxy, CelestialPosition<?, ?> position, CelestialDisplay<?, ?> display, CelestialRingDisplay<?, ?> ring, SatelliteOwnershipData ownershipData, ResourceKey<Level> world, Holder<CelestialTeleporter<?, ?>> teleporter, GasComposition atmosphere, float gravity, int accessWeight, LevelStem options) {
         this.parent = parent;
@@ -107,7 +123,21 @@ public SatelliteConfig(Holder<CelestialBody<?, ?>> parent, Holder<Galaxy> galaxy
 
     public Component customName() {return customName;}
 
-    public void customName(Component name) {this.customName = name;}
+    public void customName(Component name) {
+        this.customName = name;
+        this.changeListener.run();
+    }
+
+    /**
+     * Sets what to notify when this satellite is modified in place (renamed, or its trusted players change),
+     * so whoever holds the satellite can save, re-index and sync it.
+     */
+    public void setChangeListener(Runnable changeListener) {
+        this.changeListener = changeListener;
+        if (this.ownershipData instanceof SatelliteOwnershipDataImpl impl) {
+            impl.setChangeListener(changeListener);
+        }
+    }
 
     public ResourceKey<Level> world() {return world;}
 
@@ -119,8 +149,45 @@ public SatelliteConfig(Holder<CelestialBody<?, ?>> parent, Holder<Galaxy> galaxy
 
     public int accessWeight() {return accessWeight;}
 
+    /**
+     * Returns the dimension options of this satellite, which are not synced to clients.
+     */
     public LevelStem dimensionOptions() {return options;}
 
+    private static void writeClient(RegistryFriendlyByteBuf buf, SatelliteConfig config) {
+        CelestialBody.STREAM_CODEC.encode(buf, config.parent);
+        GALAXY_STREAM_CODEC.encode(buf, config.galaxy);
+        POSITION_STREAM_CODEC.encode(buf, config.position);
+        DISPLAY_STREAM_CODEC.encode(buf, config.display);
+        RING_STREAM_CODEC.encode(buf, config.ring);
+        config.ownershipData.writePacket(buf);
+        buf.writeResourceKey(config.world);
+        TELEPORTER_STREAM_CODEC.encode(buf, config.teleporter);
+        ATMOSPHERE_STREAM_CODEC.encode(buf, config.atmosphere);
+        buf.writeFloat(config.gravity);
+        buf.writeVarInt(config.accessWeight);
+        ComponentSerialization.STREAM_CODEC.encode(buf, config.customName);
+    }
+
+    private static SatelliteConfig readClient(RegistryFriendlyByteBuf buf) {
+        SatelliteConfig config = new SatelliteConfig(
+                CelestialBody.STREAM_CODEC.decode(buf),
+                GALAXY_STREAM_CODEC.decode(buf),
+                POSITION_STREAM_CODEC.decode(buf),
+                DISPLAY_STREAM_CODEC.decode(buf),
+                RING_STREAM_CODEC.decode(buf),
+                SatelliteOwnershipData.fromPacket(buf),
+                buf.readResourceKey(Registries.DIMENSION),
+                TELEPORTER_STREAM_CODEC.decode(buf),
+                ATMOSPHERE_STREAM_CODEC.decode(buf),
+                buf.readFloat(),
+                buf.readVarInt(),
+                null
+        );
+        config.customName(ComponentSerialization.STREAM_CODEC.decode(buf));
+        return config;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj == this) return true;
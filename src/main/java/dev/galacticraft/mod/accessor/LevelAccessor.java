@@ -22,10 +22,15 @@
 
 package dev.galacticraft.mod.accessor;
 
+import dev.galacticraft.mod.content.entity.damage.GCDamageSources;
 import dev.galacticraft.mod.misc.footprint.FootprintManager;
 
 public interface LevelAccessor {
     default FootprintManager galacticraft$getFootprintManager() {
         throw new RuntimeException("This should be overridden by mixin!"); // Hopefully this doesn't cause issues with mods with fake worlds
     }
+
+    default GCDamageSources galacticraft$getDamageSources() {
+        throw new RuntimeException("This should be overridden by mixin!");
+    }
 }
@@ -22,10 +22,15 @@
 
 package dev.galacticraft.mod.accessor;
 
+import dev.galacticraft.mod.api.block.entity.AbstractSolarPanelBlockEntity;
 import dev.galacticraft.mod.content.block.entity.machine.OxygenSealerBlockEntity;
 
 public interface ServerLevelAccessor {
     void addSealer(OxygenSealerBlockEntity sealer);
 
     void removeSealer(OxygenSealerBlockEntity sealer);
+
+    void addSolarPanel(AbstractSolarPanelBlockEntity panel);
+
+    void removeSolarPanel(AbstractSolarPanelBlockEntity panel);
 }
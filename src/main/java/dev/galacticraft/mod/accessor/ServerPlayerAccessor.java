@@ -23,6 +23,7 @@
 package dev.galacticraft.mod.accessor;
 
 import dev.galacticraft.api.rocket.RocketData;
+import dev.galacticraft.mod.network.c2s.ControlEntityPayload;
 import org.jetbrains.annotations.Nullable;
 
 public interface ServerPlayerAccessor {
@@ -42,5 +43,12 @@ public interface ServerPlayerAccessor {
         throw new RuntimeException("This must be overridden!");
     }
 
+    /**
+     * Remembers the control input that was just applied, to repeat it on the following ticks until the client sends another.
+     */
+    default void galacticraft$setControlInput(ControlEntityPayload input) {
+        throw new RuntimeException("This must be overridden!");
+    }
+
 
 }
\ No newline at end of file
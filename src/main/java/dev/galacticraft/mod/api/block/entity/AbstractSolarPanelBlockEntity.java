@@ -29,38 +29,89 @@
 import dev.galacticraft.machinelib.api.storage.StorageSpec;
 import dev.galacticraft.machinelib.api.util.EnergySource;
 import dev.galacticraft.api.universe.celestialbody.CelestialBody;
+import dev.galacticraft.mod.Constant;
+import dev.galacticraft.mod.accessor.ServerLevelAccessor;
+import dev.galacticraft.mod.api.solarpanel.SolarArray;
+import dev.galacticraft.mod.api.solarpanel.Sunlight;
+import dev.galacticraft.mod.api.wire.Wire;
+import dev.galacticraft.mod.api.wire.WireNetwork;
 import dev.galacticraft.mod.machine.GCMachineStatuses;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
 import net.minecraft.core.Holder;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.profiling.ProfilerFiller;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.reborn.energy.api.EnergyStorage;
 
 public abstract class AbstractSolarPanelBlockEntity extends MachineBlockEntity implements SolarPanel {
     public static final int CHARGE_SLOT = 0;
+    /**
+     * How many ticks to keep re-checking sky exposure after a block above the panel changes.
+     * Sky light is propagated after the block update, so the first check may still see stale light.
+     */
+    private static final int SKY_SETTLE_TICKS = 20;
+    /**
+     * How often to look for the wire network this panel outputs into, in case a wire next to it was removed or added.
+     */
+    private static final int ARRAY_REFRESH_TICKS = 20;
     protected final boolean[] blockage = new boolean[9];
     protected int blocked = 0;
+    private int skyRecheckTicks = 1;
     public long currentEnergyGeneration = 0;
     private final EnergySource energySource = new EnergySource(this);
+    private @Nullable SolarArray array = null;
+    private int arrayRefreshTicks = 0;
     private long dayLength = 24000;
 
     public AbstractSolarPanelBlockEntity(BlockEntityType<? extends AbstractSolarPanelBlockEntity> type, BlockPos pos, BlockState state, StorageSpec spec) {
         super(type, pos, state, spec);
     }
 
+    @Override
+    public void setLevel(Level level) {
+        super.setLevel(level);
+        this.skyRecheckTicks = 1;
+        if (!level.isClientSide) ((ServerLevelAccessor) level).addSolarPanel(this);
+    }
+
+    @Override
+    public void setRemoved() {
+        if (this.level != null && !this.level.isClientSide) {
+            ((ServerLevelAccessor) this.level).removeSolarPanel(this);
+        }
+        super.setRemoved();
+    }
+
+    /**
+     * Called when a block changes in one of the nine columns this panel collects light from.
+     *
+     * @param pos the position of the block that changed
+     */
+    public void onSkyColumnChanged(BlockPos pos) {
+        if (pos.getY() >= this.worldPosition.getY() + 2) {
+            this.skyRecheckTicks = SKY_SETTLE_TICKS;
+        }
+    }
+
     @Override
     public void tickConstant(@NotNull ServerLevel level, @NotNull BlockPos pos, @NotNull BlockState state, @NotNull ProfilerFiller profiler) {
         profiler.push("charge");
         this.drainPowerToSlot(CHARGE_SLOT);
-        profiler.popPush("blockage");
-        this.blocked = 0;
-        for (int x = -1; x < 2; x++) { //todo: cache?
-            for (int z = -1; z < 2; z++) {
-                //noinspection AssignmentUsedAsCondition
-                if (this.blockage[(z + 1) * 3 + (x + 1)] = !level.canSeeSky(pos.offset(x, 2, z))) {
-                    this.blocked++;
+        if (this.skyRecheckTicks > 0) {
+            this.skyRecheckTicks--;
+            profiler.popPush("blockage");
+            this.blocked = 0;
+            for (int x = -1; x < 2; x++) {
+                for (int z = -1; z < 2; z++) {
+                    //noinspection AssignmentUsedAsCondition
+                    if (this.blockage[(z + 1) * 3 + (x + 1)] = !level.canSeeSky(pos.offset(x, 2, z))) {
+                        this.blocked++;
+                    }
                 }
             }
         }
@@ -74,27 +125,33 @@ public void tickConstant(@NotNull ServerLevel level, @NotNull BlockPos pos, @Not
     @Override
     public @NotNull MachineStatus tick(@NotNull ServerLevel level, @NotNull BlockPos pos, @NotNull BlockState state, @NotNull ProfilerFiller profiler) {
         profiler.push("push_energy");
-        this.energySource.trySpreadEnergy(level, pos, state);
+        if (--this.arrayRefreshTicks <= 0 || (this.array != null && this.array.isInvalid())) {
+            this.arrayRefreshTicks = ARRAY_REFRESH_TICKS;
+            this.array = this.findArray(level, pos);
+        }
+        Sunlight sunlight;
+        if (this.array != null) {
+            sunlight = this.array.join(this, level, this.dayLength);
+        } else {
+            this.energySource.trySpreadEnergy(level, pos, state);
+            sunlight = Sunlight.of(level, this.dayLength);
+        }
         profiler.pop();
         if (this.blocked >= 9) return GCMachineStatuses.BLOCKED;
         if (this.energyStorage().isFull()) return MachineStatuses.CAPACITOR_FULL;
         MachineStatus status = null;
-        double multiplier = blocked == 0 ? 1 : (9.0 - this.blocked) / 9.0;
+        double multiplier = (blocked == 0 ? 1 : (9.0 - this.blocked) / 9.0) * sunlight.multiplier();
         if (this.blocked > 1) status = GCMachineStatuses.PARTIALLY_BLOCKED;
-        if (level.isThundering()) {
-            if (status == null) status = GCMachineStatuses.THUNDER;
-            multiplier *= 0.1;
-        } else if (level.isRaining()) {
-            if (status == null) status = GCMachineStatuses.RAIN;
-            multiplier *= 0.5;
-        }
-        long time = level.getDayTime() % this.dayLength;
-        // Don't use this.isDay() because it returns false when it is thundering
-        if (time > this.dayLength / 2) status = GCMachineStatuses.NIGHT;
-        if (time > this.dayLength / 4) time = (long) (this.dayLength / 2) - time;
+        if (status == null) status = sunlight.status();
+        if (sunlight.night()) status = GCMachineStatuses.NIGHT;
 
         profiler.push("transaction");
-        this.currentEnergyGeneration = calculateEnergyProduction(time, multiplier);
+        long production = this.array != null ? this.array.getCachedProduction(this.getType(), this.blocked) : -1;
+        if (production < 0) {
+            production = this.calculateEnergyProduction(sunlight.time(), multiplier);
+            if (this.array != null) this.array.cacheProduction(this.getType(), this.blocked, production);
+        }
+        this.currentEnergyGeneration = production;
         this.energyStorage().insert(this.currentEnergyGeneration);
         profiler.pop();
         return status == null ? GCMachineStatuses.COLLECTING : status;
@@ -102,6 +159,28 @@ public void tickConstant(@NotNull ServerLevel level, @NotNull BlockPos pos, @Not
 
     protected abstract long calculateEnergyProduction(long time, double multiplier);
 
+    /**
+     * Finds the solar array of the wire network this panel outputs into.
+     * Panels connected to more than one network, or next to anything else that stores energy, push their energy on their own.
+     */
+    private @Nullable SolarArray findArray(@NotNull ServerLevel level, @NotNull BlockPos pos) {
+        WireNetwork found = null;
+        for (Direction direction : Constant.Misc.DIRECTIONS) {
+            BlockPos neighbour = pos.relative(direction);
+            if (level.getBlockEntity(neighbour) instanceof Wire wire) {
+                if (wire.getConnections()[direction.getOpposite().get3DDataValue()]) {
+                    WireNetwork network = wire.getNetwork();
+                    if (network == null || network.markedForRemoval() || (found != null && found != network)) return null;
+                    found = network;
+                }
+            } else if (EnergyStorage.SIDED.find(level, neighbour, direction.getOpposite()) != null) {
+                // a machine right next to the panel is powered directly, which the array does not do
+                return null;
+            }
+        }
+        return found != null ? found.getSolarArray() : null;
+    }
+
     @Override
     public boolean @NotNull [] getBlockage() {
         return this.blockage;
@@ -61,6 +61,20 @@ public interface Config {
 
     boolean enableGcHouston();
 
+    /**
+     * Returns how long a space station may go without players or force-loaded chunks before its level is unloaded.
+     *
+     * @return the delay in ticks, or a non-positive value to keep every station loaded
+     */
+    long satelliteUnloadDelay();
+
+    /**
+     * Returns how far a rocket climbs before the rest of its ascent is only simulated on the client.
+     *
+     * @return the height in blocks above the launch pad, or a non-positive value to fly all the way up to orbit
+     */
+    long rocketAscentHeight();
+
     void load();
 
     void save();
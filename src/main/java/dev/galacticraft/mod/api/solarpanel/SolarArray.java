@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package dev.galacticraft.mod.api.solarpanel;
+
+import dev.galacticraft.mod.api.block.entity.AbstractSolarPanelBlockEntity;
+import dev.galacticraft.mod.api.wire.WireNetwork;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A group of solar panels that output into the same {@link WireNetwork}.
+ * The array works out the time of day and weather once per tick, shares the resulting energy production between its panels and pushes
+ * the energy of every panel into the network with a single insertion per tick.
+ */
+public final class SolarArray {
+    private final @NotNull WireNetwork network;
+    private final Reference2ObjectMap<BlockEntityType<?>, long[]> production = new Reference2ObjectOpenHashMap<>(2);
+    private List<AbstractSolarPanelBlockEntity> panels = new ArrayList<>();
+    private List<AbstractSolarPanelBlockEntity> previous = new ArrayList<>();
+    private long tickId = -1;
+    private Sunlight sunlight;
+
+    public SolarArray(@NotNull WireNetwork network) {
+        this.network = network;
+    }
+
+    /**
+     * Adds the panel to the array for the current tick.
+     * The first panel to join in a new tick pushes the energy collected by the previous tick's panels into the network.
+     *
+     * @param panel the panel that is ticking
+     * @param level the level the panel is in
+     * @param dayLength the length of a day in the level
+     * @return the sunlight the array's panels collect this tick
+     */
+    public @NotNull Sunlight join(@NotNull AbstractSolarPanelBlockEntity panel, @NotNull ServerLevel level, long dayLength) {
+        long tickId = level.getServer().getTickCount();
+        if (this.tickId != tickId) {
+            this.tickId = tickId;
+            this.sunlight = Sunlight.of(level, dayLength);
+            for (long[] values : this.production.values()) {
+                Arrays.fill(values, -1);
+            }
+
+            List<AbstractSolarPanelBlockEntity> previous = this.panels;
+            this.panels = this.previous;
+            this.previous = previous;
+            this.pushEnergy(previous);
+            previous.clear();
+        }
+        this.panels.add(panel);
+        return this.sunlight;
+    }
+
+    /**
+     * Returns the energy production of a panel of the given type and blockage for the current tick, if it was already calculated.
+     *
+     * @param type the type of the panel
+     * @param blocked how many of the panel's nine cells are blocked
+     * @return the cached energy production, or {@code -1} if it has not been calculated yet this tick
+     */
+    public long getCachedProduction(@NotNull BlockEntityType<?> type, int blocked) {
+        long[] values = this.production.get(type);
+        return values == null ? -1 : values[blocked];
+    }
+
+    public void cacheProduction(@NotNull BlockEntityType<?> type, int blocked, long production) {
+        long[] values = this.production.get(type);
+        if (values == null) {
+            values = new long[10];
+            Arrays.fill(values, -1);
+            this.production.put(type, values);
+        }
+        values[blocked] = production;
+    }
+
+    public boolean isInvalid() {
+        return this.network.markedForRemoval();
+    }
+
+    private void pushEnergy(List<AbstractSolarPanelBlockEntity> panels) {
+        if (panels.isEmpty() || this.network.markedForRemoval()) return;
+
+        long available = 0;
+        for (AbstractSolarPanelBlockEntity panel : panels) {
+            if (!panel.isRemoved()) {
+                available += panel.energyStorage().getAmount();
+            }
+        }
+        if (available == 0) return;
+
+        long inserted;
+        try (Transaction transaction = Transaction.openOuter()) {
+            inserted = this.network.insert(available, transaction);
+            transaction.commit();
+        }
+
+        for (AbstractSolarPanelBlockEntity panel : panels) {
+            if (inserted == 0) break;
+            if (!panel.isRemoved()) {
+                inserted -= panel.energyStorage().extract(inserted);
+            }
+        }
+    }
+}
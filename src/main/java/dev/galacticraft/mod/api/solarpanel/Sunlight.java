@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.api.solarpanel;
+
+import dev.galacticraft.machinelib.api.machine.MachineStatus;
+import dev.galacticraft.mod.machine.GCMachineStatuses;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The time of day and weather a solar panel collects light in, which is the same for every panel in a level.
+ *
+ * @param time the time since sunrise, folded around noon so it peaks at a quarter of the day
+ * @param night whether the sun has set
+ * @param multiplier how much of the light gets through the weather
+ * @param status the status caused by the weather, if any
+ */
+public record Sunlight(long time, boolean night, double multiplier, @Nullable MachineStatus status) {
+    public static @NotNull Sunlight of(@NotNull Level level, long dayLength) {
+        MachineStatus status = null;
+        double multiplier = 1.0;
+        if (level.isThundering()) {
+            status = GCMachineStatuses.THUNDER;
+            multiplier = 0.1;
+        } else if (level.isRaining()) {
+            status = GCMachineStatuses.RAIN;
+            multiplier = 0.5;
+        }
+        long time = level.getDayTime() % dayLength;
+        // Don't use level.isDay() because it returns false when it is thundering
+        boolean night = time > dayLength / 2;
+        if (time > dayLength / 4) time = dayLength / 2 - time;
+        return new Sunlight(time, night, multiplier, status);
+    }
+}
@@ -22,6 +22,7 @@
 
 package dev.galacticraft.mod.api.wire;
 
+import dev.galacticraft.mod.api.solarpanel.SolarArray;
 import net.fabricmc.fabric.api.transfer.v1.transaction.TransactionContext;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -59,4 +60,10 @@ public interface WireNetwork {
     void markForRemoval();
 
     boolean isCompatibleWith(@NotNull Wire wire);
+
+    /**
+     * Returns the solar array formed by the solar panels outputting into this network
+     * @return the solar array of this network
+     */
+    @NotNull SolarArray getSolarArray();
 }
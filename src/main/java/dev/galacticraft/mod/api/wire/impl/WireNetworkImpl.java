@@ -23,6 +23,7 @@
 package dev.galacticraft.mod.api.wire.impl;
 
 import dev.galacticraft.mod.Constant;
+import dev.galacticraft.mod.api.solarpanel.SolarArray;
 import dev.galacticraft.mod.api.wire.Wire;
 import dev.galacticraft.mod.api.wire.WireNetwork;
 import dev.galacticraft.mod.content.block.entity.networked.WireBlockEntity;
@@ -54,6 +55,7 @@ public class WireNetworkImpl extends SnapshotParticipant<Long> implements WireNe
     private boolean activeTransaction = false;
     private long tickId;
     private long transferred = 0;
+    private @Nullable SolarArray solarArray = null;
 
     public WireNetworkImpl(@NotNull ServerLevel level, long maxTransferRate, @NotNull BlockPos pos) {
         this.level = level;
@@ -248,6 +250,14 @@ public boolean isCompatibleWith(@NotNull Wire wire) {
         return this.getMaxTransferRate() == wire.getMaxTransferRate();
     }
 
+    @Override
+    public @NotNull SolarArray getSolarArray() {
+        if (this.solarArray == null) {
+            this.solarArray = new SolarArray(this);
+        }
+        return this.solarArray;
+    }
+
     @Override
     public String toString() {
         return "WireNetworkImpl{" +
@@ -299,13 +299,11 @@ protected boolean canCreateSpaceStation(CelestialBody<?, ?> atBody) {
         boolean foundSatellite = false;
         assert this.minecraft != null;
         assert this.minecraft.level != null;
-        for (CelestialBody<SatelliteConfig, SatelliteType> type : ((SatelliteAccessor) this.minecraft.getConnection()).galacticraft$getSatellites().values()) {
+        assert this.minecraft.player != null;
+        for (CelestialBody<SatelliteConfig, SatelliteType> type : ((SatelliteAccessor) this.minecraft.getConnection()).galacticraft$getSatellitesOwnedBy(this.minecraft.player.getUUID())) {
             if (type.parent().value() == atBody) {
-                assert this.minecraft.player != null;
-                if (type.type().ownershipData(type.config()).owner().equals(this.minecraft.player.getUUID())) {
-                    foundSatellite = true;
-                    break;
-                }
+                foundSatellite = true;
+                break;
             }
         }
 
@@ -815,7 +813,7 @@ private void drawSpaceStationDetails(Graphics graphics) {
 
         try (Graphics.TextureColor texture = graphics.textureColor(TEXTURE_1, 512)) {
             CelestialBody<SatelliteConfig, SatelliteType> selectedSatellite = (CelestialBody<SatelliteConfig, SatelliteType>) this.selectedBody;
-            int stationListSize = (int) ((SatelliteAccessor) this.minecraft.getConnection()).galacticraft$getSatellites().values().stream().filter(s -> s.parent().value() == this.selectedBody.parent().value()).count();
+            int stationListSize = ((SatelliteAccessor) this.minecraft.getConnection()).galacticraft$getSatellitesOrbiting(this.selectedBody.parent().value()).size();
 
             max = Math.min((this.height / 2) / 14, stationListSize);
             texture.blit(RHS - 95, LHS, 95, 53, this.selectedStationOwner.isEmpty() ? 95 : 0, 186, 95, 53, BLUE);
@@ -834,7 +832,7 @@ private void drawSpaceStationDetails(Graphics graphics) {
             }
             texture.blit(RHS - 85, LHS + 49 + max * 14, 61, 4, 0, 239 + 4, 61, -4, color);
 
-            if (((SatelliteAccessor) this.minecraft.getConnection()).galacticraft$getSatellites().values().stream().noneMatch(s -> s.parent() == this.selectedBody.parent() && s.type().ownershipData(s.config()).canAccess(this.minecraft.player))) {
+            if (((SatelliteAccessor) this.minecraft.getConnection()).galacticraft$getAccessibleSatellites(this.minecraft.player.getUUID()).stream().noneMatch(s -> s.parent() == this.selectedBody.parent())) {
                 str = I18n.get(Translations.CelestialSelection.SELECT_SS);
                 texture.drawSplitText(str, RHS - 47, LHS + 20, 91, WHITE);
             } else {
@@ -846,7 +844,7 @@ private void drawSpaceStationDetails(Graphics graphics) {
         }
 
         try (Graphics.TextureColor texture = graphics.textureColor(TEXTURE_0)) {
-            Iterator<CelestialBody<SatelliteConfig, SatelliteType>> it = ((SatelliteAccessor) this.minecraft.getConnection()).galacticraft$getSatellites().values().stream().filter(s -> s.parent() == this.selectedBody.parent() && s.type().ownershipData(s.config()).canAccess(this.minecraft.player)).iterator();
+            Iterator<CelestialBody<SatelliteConfig, SatelliteType>> it = ((SatelliteAccessor) this.minecraft.getConnection()).galacticraft$getAccessibleSatellites(this.minecraft.player.getUUID()).stream().filter(s -> s.parent() == this.selectedBody.parent()).iterator();
             int i = 0;
             int j = 0;
             while (it.hasNext() && i < max) {
@@ -999,8 +997,8 @@ private void drawSpaceStationCreationPrompt(GuiGraphics gui, Graphics graphics,
     private List<CelestialBody<SatelliteConfig, SatelliteType>> getVisibleSatellitesForCelestialBody(CelestialBody<?, ?> selectedBody) {
         if (selectedBody == null || selectedBody.type() instanceof Satellite) return Collections.emptyList();
         List<CelestialBody<SatelliteConfig, SatelliteType>> list = new LinkedList<>();
-        for (CelestialBody<SatelliteConfig, SatelliteType> satellite : ((SatelliteAccessor) this.minecraft.getConnection()).galacticraft$getSatellites().values()) {
-            if (satellite.parent().value() == selectedBody && satellite.type().ownershipData(satellite.config()).canAccess(this.minecraft.player)) {
+        for (CelestialBody<SatelliteConfig, SatelliteType> satellite : ((SatelliteAccessor) this.minecraft.getConnection()).galacticraft$getSatellitesOrbiting(selectedBody)) {
+            if (satellite.type().ownershipData(satellite.config()).canAccess(this.minecraft.player)) {
                 list.add(satellite);
             }
         }
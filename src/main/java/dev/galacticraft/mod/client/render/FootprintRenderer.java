@@ -26,6 +26,7 @@
 import com.mojang.blaze3d.systems.RenderSystem;
 import com.mojang.blaze3d.vertex.*;
 import dev.galacticraft.mod.Constant;
+import dev.galacticraft.mod.misc.footprint.ChunkFootprints;
 import dev.galacticraft.mod.misc.footprint.Footprint;
 import dev.galacticraft.mod.misc.footprint.FootprintManager;
 import net.fabricmc.fabric.api.client.rendering.v1.WorldRenderContext;
@@ -36,8 +37,7 @@
 import net.minecraft.world.phys.Vec3;
 import org.joml.Matrix4f;
 
-import java.util.ArrayList;
-import java.util.LinkedList;
+import java.util.Collection;
 import java.util.List;
 
 public class FootprintRenderer {
@@ -46,16 +46,7 @@ public class FootprintRenderer {
     public static void renderFootprints(WorldRenderContext context) {
         context.profiler().push("footprints");
         PoseStack poseStack = context.matrixStack();
-        ResourceLocation dimActive = context.world().dimensionTypeRegistration().unwrapKey().get().location();
-        List<Footprint> footprintsToDraw = new LinkedList<>();
-
-        for (List<Footprint> footprintList : context.world().galacticraft$getFootprintManager().getFootprints().values()) {
-            for (Footprint footprint : footprintList) {
-                if (footprint.dimension.equals(dimActive)) {
-                    footprintsToDraw.add(footprint);
-                }
-            }
-        }
+        Collection<ChunkFootprints> footprintsToDraw = context.world().galacticraft$getFootprintManager().getFootprints().values();
 
         if (footprintsToDraw.isEmpty()) {
             context.profiler().pop();
@@ -87,41 +78,44 @@ public static void renderFootprints(WorldRenderContext context) {
 
         RenderSystem.setShaderColor(1.0F, 1.0F, 1.0F, 1.0F);
 
-        for (Footprint footprint : footprintsToDraw) {
-            poseStack.pushPose();
-
-//            if (!sensorGlasses) {
-//                int j = footprint.lightmapVal % 65536;
-//                int k = footprint.lightmapVal / 65536;
-//                OpenGlHelper.setLightmapTextureCoords(OpenGlHelper.lightmapTexUnit, (float) j, (float) k);
-//            }
-
-            float ageScale = footprint.age / (float) Footprint.MAX_AGE;
-            BufferBuilder buffer = tessellator.begin(VertexFormat.Mode.QUADS, DefaultVertexFormat.POSITION_TEX);
-            RenderSystem.setShader(GameRenderer::getPositionTexShader);
-
-            Vec3 cameraPos = context.camera().getPosition();
-            float x = (float) (footprint.position.x - cameraPos.x);
-            float y = (float) (footprint.position.y - cameraPos.y) + 0.001F;
-            float z = (float) (footprint.position.z - cameraPos.z);
-
-            poseStack.translate(x, y, z);
-
-            RenderSystem.setShaderColor(1F - ageScale, 1F - ageScale, 1F - ageScale, 1F - ageScale);
-            float footprintScale = 0.5F;
-            Matrix4f last = poseStack.last().pose();
-            buffer
-                    .addVertex(last, Mth.sin((45 - footprint.rotation) / Mth.RAD_TO_DEG) * footprintScale, 0, Mth.cos((45 - footprint.rotation) / Mth.RAD_TO_DEG) * footprintScale)
-                    .setUv(f7, f9)
-                    .addVertex(last, Mth.sin((135 - footprint.rotation) / Mth.RAD_TO_DEG) * footprintScale, 0, Mth.cos((135 - footprint.rotation) / Mth.RAD_TO_DEG) * footprintScale)
-                    .setUv(f7, f8)
-                    .addVertex(last, Mth.sin((225 - footprint.rotation) / Mth.RAD_TO_DEG) * footprintScale, 0, Mth.cos((225 - footprint.rotation) / Mth.RAD_TO_DEG) * footprintScale)
-                    .setUv(f6, f8)
-                    .addVertex(last, Mth.sin((315 - footprint.rotation) / Mth.RAD_TO_DEG) * footprintScale, 0, Mth.cos((315 - footprint.rotation) / Mth.RAD_TO_DEG) * footprintScale)
-                    .setUv(f6, f9);
-
-            BufferUploader.drawWithShader(buffer.buildOrThrow());
-            poseStack.popPose();
+        Vec3 cameraPos = context.camera().getPosition();
+        for (ChunkFootprints footprints : footprintsToDraw) {
+            for (int i = 0; i < footprints.size(); i++) {
+                poseStack.pushPose();
+
+//                if (!sensorGlasses) {
+//                    int j = footprint.lightmapVal % 65536;
+//                    int k = footprint.lightmapVal / 65536;
+//                    OpenGlHelper.setLightmapTextureCoords(OpenGlHelper.lightmapTexUnit, (float) j, (float) k);
+//                }
+
+                float ageScale = footprints.getAge(i) / (float) Footprint.MAX_AGE;
+                float rotation = footprints.getRotation(i);
+                BufferBuilder buffer = tessellator.begin(VertexFormat.Mode.QUADS, DefaultVertexFormat.POSITION_TEX);
+                RenderSystem.setShader(GameRenderer::getPositionTexShader);
+
+                float x = (float) (footprints.getX(i) - cameraPos.x);
+                float y = (float) (footprints.getY(i) - cameraPos.y) + 0.001F;
+                float z = (float) (footprints.getZ(i) - cameraPos.z);
+
+                poseStack.translate(x, y, z);
+
+                RenderSystem.setShaderColor(1F - ageScale, 1F - ageScale, 1F - ageScale, 1F - ageScale);
+                float footprintScale = 0.5F;
+                Matrix4f last = poseStack.last().pose();
+                buffer
+                        .addVertex(last, Mth.sin((45 - rotation) / Mth.RAD_TO_DEG) * footprintScale, 0, Mth.cos((45 - rotation) / Mth.RAD_TO_DEG) * footprintScale)
+                        .setUv(f7, f9)
+                        .addVertex(last, Mth.sin((135 - rotation) / Mth.RAD_TO_DEG) * footprintScale, 0, Mth.cos((135 - rotation) / Mth.RAD_TO_DEG) * footprintScale)
+                        .setUv(f7, f8)
+                        .addVertex(last, Mth.sin((225 - rotation) / Mth.RAD_TO_DEG) * footprintScale, 0, Mth.cos((225 - rotation) / Mth.RAD_TO_DEG) * footprintScale)
+                        .setUv(f6, f8)
+                        .addVertex(last, Mth.sin((315 - rotation) / Mth.RAD_TO_DEG) * footprintScale, 0, Mth.cos((315 - rotation) / Mth.RAD_TO_DEG) * footprintScale)
+                        .setUv(f6, f9);
+
+                BufferUploader.drawWithShader(buffer.buildOrThrow());
+                poseStack.popPose();
+            }
         }
 
 //        if (sensorGlasses) {
@@ -133,15 +127,17 @@ public static void renderFootprints(WorldRenderContext context) {
         context.profiler().pop();
     }
 
-    public static void setFootprints(long chunk, List<Footprint> prints) {
-        FootprintManager manager = Minecraft.getInstance().level.galacticraft$getFootprintManager();
-        List<Footprint> footprintList = manager.getFootprints().get(chunk);
-
-        if (footprintList == null) {
-            footprintList = new ArrayList<>();
+    public static void setFootprints(long chunk, boolean replace, List<Footprint> prints) {
+        Minecraft minecraft = Minecraft.getInstance();
+        FootprintManager manager = minecraft.level.galacticraft$getFootprintManager();
+        if (replace) {
+            manager.getFootprints().remove(chunk);
+        }
+        for (Footprint footprint : prints) {
+            // the local player places its own footprints as it moves
+            if (replace || !footprint.owner.equals(minecraft.player.getUUID())) {
+                manager.addFootprint(chunk, footprint);
+            }
         }
-
-        footprintList.addAll(prints);
-        manager.getFootprints().put(chunk, footprintList);
     }
-}
\ No newline at end of file
+}
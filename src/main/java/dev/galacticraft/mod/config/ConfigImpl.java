@@ -66,6 +66,8 @@ public class ConfigImpl implements Config {
     private double bossHealthMultiplier = 1.0;
     private boolean hideAlphaWarning = false;
     private boolean enableGcHouston = true;
+    private long satelliteUnloadDelay = 6000;
+    private long rocketAscentHeight = 256;
 
     public ConfigImpl(File file) {
         this.gson = new GsonBuilder()
@@ -249,6 +251,24 @@ public void setEnableGcHouston(boolean enableGcHouston) {
         this.enableGcHouston = enableGcHouston;
     }
 
+    @Override
+    public long satelliteUnloadDelay() {
+        return this.satelliteUnloadDelay;
+    }
+
+    public void setSatelliteUnloadDelay(long satelliteUnloadDelay) {
+        this.satelliteUnloadDelay = satelliteUnloadDelay;
+    }
+
+    @Override
+    public long rocketAscentHeight() {
+        return this.rocketAscentHeight;
+    }
+
+    public void setRocketAscentHeight(long rocketAscentHeight) {
+        this.rocketAscentHeight = rocketAscentHeight;
+    }
+
     public void load() {
         if (!this.file.exists()) {
             this.file.getParentFile().mkdirs();
@@ -473,6 +493,34 @@ public Screen create(Screen parent) {
                     .build()
             );
 
+            SubCategoryBuilder satellites = ConfigEntryBuilder.create().startSubCategory(Component.translatable(Translations.Config.SATELLITES));
+
+            satellites.add(new LongFieldBuilder(
+                    Component.translatable(Translations.Config.RESET),
+                    Component.translatable(Translations.Config.SATELLITE_UNLOAD_DELAY),
+                    config.satelliteUnloadDelay())
+                    .setTooltip(Component.translatable(Translations.Config.SATELLITE_UNLOAD_DELAY_DESC))
+                    .setSaveConsumer(config::setSatelliteUnloadDelay)
+                    .setDefaultValue(6000)
+                    .build()
+            );
+
+            b.getOrCreateCategory(Component.translatable(Translations.Config.SATELLITES)).addEntry(satellites.build());
+
+            SubCategoryBuilder rockets = ConfigEntryBuilder.create().startSubCategory(Component.translatable(Translations.Config.ROCKETS));
+
+            rockets.add(new LongFieldBuilder(
+                    Component.translatable(Translations.Config.RESET),
+                    Component.translatable(Translations.Config.ROCKET_ASCENT_HEIGHT),
+                    config.rocketAscentHeight())
+                    .setTooltip(Component.translatable(Translations.Config.ROCKET_ASCENT_HEIGHT_DESC))
+                    .setSaveConsumer(config::setRocketAscentHeight)
+                    .setDefaultValue(256)
+                    .build()
+            );
+
+            b.getOrCreateCategory(Component.translatable(Translations.Config.ROCKETS)).addEntry(rockets.build());
+
             return b.build();
         }
     }
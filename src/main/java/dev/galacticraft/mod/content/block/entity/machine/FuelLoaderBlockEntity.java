@@ -44,6 +44,7 @@
 import dev.galacticraft.mod.content.block.special.launchpad.AbstractLaunchPad;
 import dev.galacticraft.mod.content.block.special.launchpad.LaunchPadBlockEntity;
 import dev.galacticraft.mod.machine.GCMachineStatuses;
+import dev.galacticraft.mod.machine.MachineDormancy;
 import dev.galacticraft.mod.screen.FuelLoaderMenu;
 import dev.galacticraft.mod.util.FluidUtil;
 import net.fabricmc.fabric.api.transfer.v1.fluid.FluidConstants;
@@ -65,6 +66,8 @@
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.ref.WeakReference;
+
 public class FuelLoaderBlockEntity extends MachineBlockEntity {
     public static final long TRANSFER_RATE = 500;
     public static final int CHARGE_SLOT = 0;
@@ -72,6 +75,10 @@ public class FuelLoaderBlockEntity extends MachineBlockEntity {
     public static final int FUEL_TANK = 0;
     public static final int NUM_BUCKETS = 50;
     public static final long MAX_FUEL = FluidUtil.bucketsToDroplets(NUM_BUCKETS);
+    /**
+     * How often to look for the launch pad at {@link #connectionPos} while it is not loaded.
+     */
+    private static final int RELINK_INTERVAL = 20;
 
     private static final StorageSpec SPEC = StorageSpec.of(
             MachineItemStorage.spec(
@@ -103,6 +110,9 @@ public class FuelLoaderBlockEntity extends MachineBlockEntity {
     private int amount = 0;
     public Dockable linkedRocket = null;
     private Direction check = null;
+    private @Nullable WeakReference<LaunchPadBlockEntity> linkedPad = null;
+    private int relinkTicks = 0;
+    private final MachineDormancy dormancy = new MachineDormancy();
 
     public FuelLoaderBlockEntity(BlockPos pos, BlockState state) {
         super(GCBlockEntityTypes.FUEL_LOADER, pos, state, SPEC);
@@ -130,10 +140,17 @@ public void setChanged() {
 
     @Override
     protected @NotNull MachineStatus tick(@NotNull ServerLevel level, @NotNull BlockPos pos, @NotNull BlockState state, @NotNull ProfilerFiller profiler) {
-        if (this.fluidStorage().isEmpty()) return GCMachineStatuses.NOT_ENOUGH_FUEL;
+        MachineStatus dormant = this.dormancy.check(this);
+        if (dormant != null) return dormant;
+
+        if (this.fluidStorage().isEmpty()) return this.dormancy.sleep(this, GCMachineStatuses.NOT_ENOUGH_FUEL);
 
         if (this.linkedRocket == null) {
-            return GCMachineStatuses.NO_ROCKET;
+            return this.dormancy.sleep(this, GCMachineStatuses.NO_ROCKET);
+        }
+
+        if (this.linkedRocket.getFuelTankAmount() >= this.linkedRocket.getFuelTankCapacity()) {
+            return this.dormancy.sleep(this, GCMachineStatuses.FUEL_TANK_FULL);
         }
 
         FluidResourceSlot slot = this.fluidStorage().slot(FUEL_TANK);
@@ -145,7 +162,7 @@ public void setChanged() {
                 transaction.commit();
                 return GCMachineStatuses.LOADING;
             }
-            return GCMachineStatuses.FUEL_TANK_FULL;
+            return this.dormancy.sleep(this, GCMachineStatuses.FUEL_TANK_FULL);
         }
     }
 
@@ -159,15 +176,21 @@ public void tickConstant(@NotNull ServerLevel world, @NotNull BlockPos pos, @Not
                         && this.level.getBlockState(launchPad).getValue(AbstractLaunchPad.PART) == AbstractLaunchPad.Part.CENTER
                         && this.level.getBlockEntity(launchPad) instanceof LaunchPadBlockEntity) {
                     this.connectionPos = launchPad;
+                    this.unlinkPad();
                 }
             }
             this.check = null;
         }
 
-        if (this.level.isLoaded(this.connectionPos) && this.level.getBlockEntity(this.connectionPos) instanceof LaunchPadBlockEntity launchPad) {
-            this.linkedRocket = launchPad.getDockedEntity();
-        } else {
-            this.linkedRocket = null;
+        if (this.linkedPad == null && this.connectionPos != BlockPos.ZERO && --this.relinkTicks <= 0) {
+            this.relinkTicks = RELINK_INTERVAL;
+            if (this.level.isLoaded(this.connectionPos) && this.level.getBlockEntity(this.connectionPos) instanceof LaunchPadBlockEntity launchPad) {
+                this.linkPad(launchPad);
+            }
+        }
+
+        if (this.linkedRocket != null && this.linkedRocket.asEntity().isRemoved()) {
+            this.onDockedEntityChanged(null);
         }
 
         this.chargeFromSlot(CHARGE_SLOT);
@@ -196,6 +219,57 @@ public void loadAdditional(CompoundTag tag, HolderLookup.Provider lookup) {
 
     public void updateConnections(Direction direction) {
         this.check = direction;
+        this.dormancy.wake();
+    }
+
+    public void wake() {
+        this.dormancy.wake();
+    }
+
+    private void linkPad(LaunchPadBlockEntity pad) {
+        this.linkedPad = new WeakReference<>(pad);
+        pad.addLoader(this);
+        this.onDockedEntityChanged(pad.hasDockedEntity() ? pad.getDockedEntity() : null);
+    }
+
+    private void unlinkPad() {
+        if (this.linkedPad != null) {
+            LaunchPadBlockEntity pad = this.linkedPad.get();
+            if (pad != null) pad.removeLoader(this);
+            this.linkedPad = null;
+        }
+        this.relinkTicks = 0;
+        this.onDockedEntityChanged(null);
+    }
+
+    /**
+     * Called by the linked launch pad when a rocket docks or leaves.
+     *
+     * @param docked the entity now docked on the pad, or {@code null} if there is none
+     */
+    public void onDockedEntityChanged(@Nullable Dockable docked) {
+        if (docked != this.linkedRocket) {
+            this.linkedRocket = docked;
+            this.dormancy.wake();
+        }
+    }
+
+    public void onPadRemoved(LaunchPadBlockEntity pad) {
+        if (this.linkedPad != null && this.linkedPad.get() == pad) {
+            this.linkedPad = null;
+            this.relinkTicks = 0;
+            this.onDockedEntityChanged(null);
+        }
+    }
+
+    @Override
+    public void setRemoved() {
+        if (this.linkedPad != null) {
+            LaunchPadBlockEntity pad = this.linkedPad.get();
+            if (pad != null) pad.removeLoader(this);
+            this.linkedPad = null;
+        }
+        super.setRemoved();
     }
 
     @Override
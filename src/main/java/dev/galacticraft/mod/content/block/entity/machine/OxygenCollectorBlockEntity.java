@@ -43,6 +43,7 @@
 import dev.galacticraft.mod.content.GCBlockEntityTypes;
 import dev.galacticraft.mod.data.OxygenBlockDataManager;
 import dev.galacticraft.mod.machine.GCMachineStatuses;
+import dev.galacticraft.mod.machine.MachineDormancy;
 import dev.galacticraft.mod.screen.OxygenCollectorMenu;
 import dev.galacticraft.mod.util.FluidUtil;
 import net.minecraft.core.BlockPos;
@@ -87,6 +88,7 @@ public class OxygenCollectorBlockEntity extends MachineBlockEntity {
     private final FluidSource fluidSource = new FluidSource(this);
     public int collectionAmount = 0;
     private boolean oxygenWorld = false;
+    private final MachineDormancy dormancy = new MachineDormancy();
 
     public OxygenCollectorBlockEntity(BlockPos pos, BlockState state) {
         super(GCBlockEntityTypes.OXYGEN_COLLECTOR, pos, state, SPEC);
@@ -112,7 +114,7 @@ private int collectOxygen(@NotNull ServerLevel world, @NotNull BlockPos pos) {
 
             for (BlockPos pos1 : BlockPos.betweenClosed(minX, minY, minZ, maxX, maxY, maxZ)) {
                 BlockState state = world.getBlockState(pos1);
-                if (state.isAir()) {
+                if (!OxygenBlockDataManager.providesOxygen(state)) {
                     continue;
                 }
 
@@ -138,7 +140,16 @@ protected void tickConstant(@NotNull ServerLevel world, @NotNull BlockPos pos, @
         profiler.push("transfer");
         this.fluidSource.trySpreadFluids(level, pos, state);
 
-        if (this.fluidStorage().slot(OXYGEN_TANK).isFull()) return GCMachineStatuses.OXYGEN_TANK_FULL;
+        MachineStatus dormant = this.dormancy.check(this);
+        if (dormant != null) {
+            profiler.pop();
+            return dormant;
+        }
+
+        if (this.fluidStorage().slot(OXYGEN_TANK).isFull()) {
+            profiler.pop();
+            return this.dormancy.sleep(this, GCMachineStatuses.OXYGEN_TANK_FULL);
+        }
         profiler.popPush("transaction");
         try {
             if (this.energyStorage().canExtract(Galacticraft.CONFIG.oxygenCollectorEnergyConsumptionRate())) {
@@ -150,11 +161,11 @@ protected void tickConstant(@NotNull ServerLevel world, @NotNull BlockPos pos, @
                     this.fluidStorage().slot(OXYGEN_TANK).insert(Gases.OXYGEN, FluidUtil.bucketsToDroplets(this.collectionAmount));
                     return GCMachineStatuses.COLLECTING;
                 } else {
-                    return GCMachineStatuses.NOT_ENOUGH_OXYGEN;
+                    return this.dormancy.sleep(this, GCMachineStatuses.NOT_ENOUGH_OXYGEN);
                 }
             } else {
                 this.collectionAmount = 0;
-                return MachineStatuses.NOT_ENOUGH_ENERGY;
+                return this.dormancy.sleep(this, MachineStatuses.NOT_ENOUGH_ENERGY);
             }
         } finally {
             profiler.pop();
@@ -167,6 +178,10 @@ public MachineMenu<? extends MachineBlockEntity> createMenu(int syncId, Inventor
         return new OxygenCollectorMenu(syncId, player, this);
     }
 
+    public void wake() {
+        this.dormancy.wake();
+    }
+
     public int getCollectionAmount() {
         return this.collectionAmount;
     }
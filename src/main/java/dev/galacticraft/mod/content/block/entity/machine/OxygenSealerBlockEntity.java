@@ -42,6 +42,7 @@
 import dev.galacticraft.mod.accessor.ServerLevelAccessor;
 import dev.galacticraft.mod.content.GCBlockEntityTypes;
 import dev.galacticraft.mod.machine.GCMachineStatuses;
+import dev.galacticraft.mod.machine.MachineDormancy;
 import dev.galacticraft.mod.screen.GCMenuTypes;
 import dev.galacticraft.mod.util.FluidUtil;
 import net.minecraft.core.BlockPos;
@@ -107,6 +108,7 @@ public class OxygenSealerBlockEntity extends MachineBlockEntity {
     private boolean oxygenWorld = false;
     private boolean sealed = false;
     private boolean oxygenUnloaded = true;
+    private final MachineDormancy dormancy = new MachineDormancy();
 
     public OxygenSealerBlockEntity(BlockPos pos, BlockState state) {
         super(GCBlockEntityTypes.OXYGEN_SEALER, pos, state, SPEC);
@@ -137,6 +139,8 @@ protected void tickConstant(@NotNull ServerLevel world, @NotNull BlockPos pos, @
         // if (this.disabled != (this.disabled = false)) {
         //     ((ServerLevelAccessor) level).addSealer(this);
         // }
+        MachineStatus dormant = this.dormancy.check(this);
+        if (dormant != null) return dormant;
 
         if (this.energyStorage().canExtract(Galacticraft.CONFIG.oxygenCompressorEnergyConsumptionRate())) {
             if (!this.fluidStorage().slot(OXYGEN_TANK).isEmpty()) {
@@ -211,11 +215,11 @@ protected void tickConstant(@NotNull ServerLevel world, @NotNull BlockPos pos, @
                 return GCMachineStatuses.SEALED;
             } else {
                 this.tryClearSeal(level);
-                return GCMachineStatuses.NOT_ENOUGH_OXYGEN;
+                return this.dormancy.sleep(this, GCMachineStatuses.NOT_ENOUGH_OXYGEN);
             }
         } else {
             this.tryClearSeal(level);
-            return MachineStatuses.NOT_ENOUGH_ENERGY;
+            return this.dormancy.sleep(this, MachineStatuses.NOT_ENOUGH_ENERGY);
         }
     }
 
@@ -236,6 +240,7 @@ private void tryClearSeal(@NotNull ServerLevel world) {
     @Override
     protected void tickDisabled(@NotNull ServerLevel world, @NotNull BlockPos pos, @NotNull BlockState state, @NotNull ProfilerFiller profiler) {
         this.tryClearSeal(world);
+        this.dormancy.wake();
         super.tickDisabled(world, pos, state, profiler);
     }
 
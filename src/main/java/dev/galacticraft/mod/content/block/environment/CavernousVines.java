@@ -22,10 +22,7 @@
 
 package dev.galacticraft.mod.content.block.environment;
 
-import dev.galacticraft.mod.content.entity.damage.GCDamageTypes;
 import net.minecraft.core.BlockPos;
-import net.minecraft.core.registries.Registries;
-import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
@@ -49,7 +46,7 @@ static void entityInside(BlockState blockState, Level level, BlockPos blockPos,
             return;
         }
         if (blockState.getValue(POISONOUS)) {
-            livingEntity.hurt(new DamageSource(livingEntity.level().registryAccess().registryOrThrow(Registries.DAMAGE_TYPE).getHolderOrThrow(GCDamageTypes.VINE_POISON)), 0.5f);
+            livingEntity.hurt(livingEntity.level().galacticraft$getDamageSources().vinePoison(), 0.5f);
         }
         livingEntity.setDeltaMovement(livingEntity.getDeltaMovement().x, 0.1D, livingEntity.getDeltaMovement().z);
         livingEntity.setYRot(livingEntity.getYRot() + 0.1F); // Spin the entity
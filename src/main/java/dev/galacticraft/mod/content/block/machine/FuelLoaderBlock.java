@@ -69,6 +69,9 @@ public void createBlockStateDefinition(StateDefinition.Builder<Block, BlockState
     @Override
     public void neighborChanged(BlockState state, Level level, BlockPos pos, Block block, BlockPos fromPos, boolean notify) {
         super.neighborChanged(state, level, pos, block, fromPos, notify);
+        if (level.getBlockEntity(pos) instanceof FuelLoaderBlockEntity loader) {
+            loader.wake();
+        }
     }
 
     @Override
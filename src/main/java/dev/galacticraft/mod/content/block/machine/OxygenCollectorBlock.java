@@ -31,6 +31,7 @@
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.BaseEntityBlock;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -53,6 +54,14 @@ public OxygenCollectorBlock(Properties settings) {
         return new OxygenCollectorBlockEntity(pos, state);
     }
 
+    @Override
+    public void neighborChanged(BlockState state, Level level, BlockPos pos, Block block, BlockPos fromPos, boolean notify) {
+        super.neighborChanged(state, level, pos, block, fromPos, notify);
+        if (level.getBlockEntity(pos) instanceof OxygenCollectorBlockEntity collector) {
+            collector.wake();
+        }
+    }
+
     @Override
     public void animateTick(BlockState state, Level world, BlockPos pos, RandomSource random) {
         if (isActive(state) && world.getBlockEntity(pos) instanceof OxygenCollectorBlockEntity machine && machine.collectionAmount > 0) {
@@ -27,6 +27,7 @@
 import dev.galacticraft.mod.api.block.entity.FuelDock;
 import dev.galacticraft.mod.api.entity.Dockable;
 import dev.galacticraft.mod.content.GCBlockEntityTypes;
+import dev.galacticraft.mod.content.block.entity.machine.FuelLoaderBlockEntity;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
@@ -37,7 +38,10 @@
 import net.minecraft.world.level.block.state.BlockState;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collections;
+import java.util.Set;
 import java.util.UUID;
+import java.util.WeakHashMap;
 import java.util.function.IntFunction;
 
 public class LaunchPadBlockEntity extends BlockEntity implements FuelDock {
@@ -47,6 +51,7 @@ public class LaunchPadBlockEntity extends BlockEntity implements FuelDock {
     private UUID entityUUID = null;
     private @Nullable Dockable docked;
     private Type type;
+    private final Set<FuelLoaderBlockEntity> loaders = Collections.newSetFromMap(new WeakHashMap<>(1));
 
     public LaunchPadBlockEntity(BlockPos pos, BlockState state, Type type) {
         super(GCBlockEntityTypes.LAUNCH_PAD, pos, state);
@@ -65,6 +70,37 @@ public void setDockedEntity(@Nullable Dockable dockable) {
             this.entityUUID = dockable.asEntity().getUUID();
             this.docked = dockable;
         }
+        this.notifyLoaders();
+    }
+
+    /**
+     * Links a fuel loader to this pad, so that it is told when a rocket docks or leaves.
+     *
+     * @param loader the fuel loader next to this pad
+     */
+    public void addLoader(FuelLoaderBlockEntity loader) {
+        this.loaders.add(loader);
+    }
+
+    public void removeLoader(FuelLoaderBlockEntity loader) {
+        this.loaders.remove(loader);
+    }
+
+    private void notifyLoaders() {
+        for (FuelLoaderBlockEntity loader : this.loaders) {
+            if (!loader.isRemoved()) {
+                loader.onDockedEntityChanged(this.docked);
+            }
+        }
+    }
+
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+        for (FuelLoaderBlockEntity loader : this.loaders) {
+            loader.onPadRemoved(this);
+        }
+        this.loaders.clear();
     }
 
     @Override
@@ -80,6 +116,7 @@ public boolean hasDockedEntity() {
         if (this.entityUUID != null) {
             if (this.docked == null && this.level instanceof ServerLevel) {
                 this.docked = (Rocket) ((ServerLevel) this.level).getEntity(this.entityUUID);
+                if (this.docked != null) this.notifyLoaders();
             }
         } else {
             this.docked = null;
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package dev.galacticraft.mod.content.entity.damage;
+
+import net.minecraft.core.Registry;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.damagesource.DamageSource;
+import net.minecraft.world.damagesource.DamageType;
+
+/**
+ * Per-level cache of the damage sources for Galacticraft's damage types, like vanilla's
+ * {@link net.minecraft.world.damagesource.DamageSources}.
+ */
+public class GCDamageSources {
+    private final DamageSource crashLanding;
+    private final DamageSource oilBoom;
+    private final DamageSource vinePoison;
+    private final DamageSource suffocation;
+    private final DamageSource sulfuricAcid;
+
+    public GCDamageSources(RegistryAccess registryAccess) {
+        Registry<DamageType> damageTypes = registryAccess.registryOrThrow(Registries.DAMAGE_TYPE);
+        this.crashLanding = source(damageTypes, GCDamageTypes.CRASH_LANDING);
+        this.oilBoom = source(damageTypes, GCDamageTypes.OIL_BOOM);
+        this.vinePoison = source(damageTypes, GCDamageTypes.VINE_POISON);
+        this.suffocation = source(damageTypes, GCDamageTypes.SUFFOCATION);
+        this.sulfuricAcid = source(damageTypes, GCDamageTypes.SULFURIC_ACID);
+    }
+
+    private static DamageSource source(Registry<DamageType> damageTypes, ResourceKey<DamageType> key) {
+        return new DamageSource(damageTypes.getHolderOrThrow(key));
+    }
+
+    public DamageSource crashLanding() {
+        return this.crashLanding;
+    }
+
+    public DamageSource oilBoom() {
+        return this.oilBoom;
+    }
+
+    public DamageSource vinePoison() {
+        return this.vinePoison;
+    }
+
+    public DamageSource suffocation() {
+        return this.suffocation;
+    }
+
+    public DamageSource sulfuricAcid() {
+        return this.sulfuricAcid;
+    }
+}
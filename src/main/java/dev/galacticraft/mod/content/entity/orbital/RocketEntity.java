@@ -31,6 +31,7 @@
 import dev.galacticraft.api.rocket.entity.Rocket;
 import dev.galacticraft.api.rocket.part.*;
 import dev.galacticraft.mod.Constant;
+import dev.galacticraft.mod.Galacticraft;
 import dev.galacticraft.mod.api.block.entity.FuelDock;
 import dev.galacticraft.mod.attachments.GCServerPlayer;
 import dev.galacticraft.mod.content.GCBlocks;
@@ -103,6 +104,13 @@ public class RocketEntity extends AdvancedVehicle implements Rocket, IgnoreShift
     public static final EntityDataAccessor<RocketData> ROCKET_DATA = SynchedEntityData.defineId(RocketEntity.class, GCEntityDataSerializers.ROCKET_DATA);
 
     public static final EntityDataAccessor<Long> FUEL = SynchedEntityData.defineId(RocketEntity.class, EntityDataSerializers.LONG);
+
+    /**
+     * Whether the rest of the ascent is only simulated on the client, see {@link #startVirtualAscent()}.
+     */
+    private static final EntityDataAccessor<Boolean> VIRTUAL_ASCENT = SynchedEntityData.defineId(RocketEntity.class, EntityDataSerializers.BOOLEAN);
+    private static final double ORBIT_HEIGHT = 1200.0;
+    private static final int VIRTUAL_ASCENT_TICKS = 60;
     private final boolean debugMode = false && FabricLoader.getInstance().isDevelopmentEnvironment();
 
     private FuelDock linkedPad = null;
@@ -111,6 +119,8 @@ public class RocketEntity extends AdvancedVehicle implements Rocket, IgnoreShift
     });
     private int timeBeforeLaunch;
     private float timeSinceLaunch;
+    private double launchHeight = Double.NaN;
+    private int virtualAscentTicks;
 
     public RocketEntity(EntityType<?> entityType, Level level) {
         super(entityType, level);
@@ -322,6 +332,8 @@ protected void defineSynchedData(SynchedEntityData.Builder builder) {
         builder.define(ROCKET_DATA, RocketPrefabs.TIER_1);
 
         builder.define(FUEL, 0L);
+
+        builder.define(VIRTUAL_ASCENT, false);
     }
 
     @Override
@@ -361,6 +373,10 @@ public void tick() {
 
         super.tick();
 
+        if (this.level().isClientSide() && this.isAscendingVirtually()) {
+            this.setPos(this.position().add(this.calculateVelocity(1.0)));
+        }
+
         int particleChance;
 
         if (this.timeBeforeLaunch >= 100) {
@@ -404,6 +420,7 @@ public void tick() {
                 if (getTimeAsState() >= getPreLaunchWait()) {
                     this.setLaunchStage(LaunchStage.LAUNCHED);
                     this.setSpeed(0.0f);
+                    this.launchHeight = this.getY();
                     BlockPos dockPos = this.getLinkedPad();
                     if (dockPos != BlockPos.ZERO) {
                         if (passenger instanceof ServerPlayer player) {
@@ -418,6 +435,10 @@ && level().getBlockState(dockPos).getValue(AbstractLaunchPad.PART) != AbstractLa
                         }
                     }
                 }
+            } else if (getLaunchStage() == LaunchStage.LAUNCHED && this.isAscendingVirtually()) {
+                if (--this.virtualAscentTicks <= 0) {
+                    this.reachOrbit();
+                }
             } else if (getLaunchStage() == LaunchStage.LAUNCHED) {
                 if (!debugMode && (isTankEmpty() || !this.getTank().getResource().getFluid().is(GCTags.FUEL))) {
                     this.setLaunchStage(LaunchStage.FAILED);
@@ -448,27 +469,10 @@ && level().getBlockState(dockPos).getValue(AbstractLaunchPad.PART) != AbstractLa
                     this.setDeltaMovement(calculateVelocity());
                 }
 
-                if (this.position().y() >= 1200.0F) {
-                    // will need to change is for rockets that are launched via launch controllers
-                    if (this.getPassengers().isEmpty()) {
-                        this.remove(RemovalReason.DISCARDED);
-                    }
-
-                    for (Entity entity : getPassengers()) {
-                        if (entity instanceof ServerPlayer serverPlayer) {
-                            GCServerPlayer gcPlayer = GCServerPlayer.get(serverPlayer);
-                            gcPlayer.setRocketStacks(NonNullList.withSize(2, ItemStack.EMPTY)); // TODO un-hardcode this
-                            gcPlayer.setFuel(this.tank.getAmount());
-                            var rocket = new ItemStack(GCItems.ROCKET);
-                            RocketData data = this.getRocketData();
-                            rocket.applyComponents(data.asPatch());
-                            gcPlayer.setRocketItem(rocket);
-                            serverPlayer.galacticraft$openCelestialScreen(data);
-                            ServerPlayNetworking.send(serverPlayer, new OpenCelestialScreenPayload(this.getRocketData(), this.level().galacticraft$getCelestialBody()));
-                            remove(RemovalReason.UNLOADED_WITH_PLAYER);
-                            break;
-                        }
-                    }
+                if (this.position().y() >= ORBIT_HEIGHT) {
+                    this.reachOrbit();
+                } else if (getLaunchStage() == LaunchStage.LAUNCHED && this.canAscendVirtually()) {
+                    this.startVirtualAscent();
                 }
             } else if (!onGround()) {
                 this.setSpeed(Math.max(-1.5f, this.getSpeed() - 0.05f));
@@ -476,7 +480,9 @@ && level().getBlockState(dockPos).getValue(AbstractLaunchPad.PART) != AbstractLa
                 this.setDeltaMovement(calculateVelocity());
             }
 
-            this.move(MoverType.SELF, this.getDeltaMovement());
+            if (!this.isAscendingVirtually()) {
+                this.move(MoverType.SELF, this.getDeltaMovement());
+            }
 
             if (getLaunchStage() == LaunchStage.FAILED) {
                 setRot((this.getYRot() + level().random.nextFloat() - 0.5F * 8.0F) % 360.0F, (this.getXRot() + level().random.nextFloat() - 0.5F * 8.0F) % 360.0F);
@@ -506,10 +512,81 @@ && level().getBlockState(dockPos).getValue(AbstractLaunchPad.PART) != AbstractLa
         }
     }
 
+    private void reachOrbit() {
+        // will need to change is for rockets that are launched via launch controllers
+        if (this.getPassengers().isEmpty()) {
+            this.remove(RemovalReason.DISCARDED);
+        }
+
+        for (Entity entity : getPassengers()) {
+            if (entity instanceof ServerPlayer serverPlayer) {
+                if (this.getY() < ORBIT_HEIGHT) {
+                    // the rest of the ascent was only simulated; let the player pick a destination from where they would have been
+                    serverPlayer.stopRiding();
+                    serverPlayer.connection.teleport(serverPlayer.getX(), ORBIT_HEIGHT, serverPlayer.getZ(), serverPlayer.getYRot(), serverPlayer.getXRot());
+                    serverPlayer.resetFallDistance();
+                }
+                GCServerPlayer gcPlayer = GCServerPlayer.get(serverPlayer);
+                gcPlayer.setRocketStacks(NonNullList.withSize(2, ItemStack.EMPTY)); // TODO un-hardcode this
+                gcPlayer.setFuel(this.tank.getAmount());
+                var rocket = new ItemStack(GCItems.ROCKET);
+                RocketData data = this.getRocketData();
+                rocket.applyComponents(data.asPatch());
+                gcPlayer.setRocketItem(rocket);
+                serverPlayer.galacticraft$openCelestialScreen(data);
+                ServerPlayNetworking.send(serverPlayer, new OpenCelestialScreenPayload(this.getRocketData(), this.level().galacticraft$getCelestialBody()));
+                remove(RemovalReason.UNLOADED_WITH_PLAYER);
+                break;
+            }
+        }
+    }
+
+    public boolean isAscendingVirtually() {
+        return this.entityData.get(VIRTUAL_ASCENT);
+    }
+
+    private boolean canAscendVirtually() {
+        long height = Galacticraft.CONFIG.rocketAscentHeight();
+        return height > 0 && this.getFirstPassenger() instanceof ServerPlayer && this.getY() - this.launchHeight >= height;
+    }
+
+    /**
+     * Stops moving the rocket on the server once it has climbed high enough, and lets the client simulate the rest of the flight.
+     * Flying all the way up to orbit would drag the passenger through hundreds of blocks of empty chunks
+     * that have to be loaded, tracked and sent, only for them to be left for the celestial screen.
+     * The fuel the rest of the climb would have burnt is taken up front; if there is not enough, the rocket keeps flying (and fails).
+     */
+    private void startVirtualAscent() {
+        long remainingTicks = (long) Math.ceil((ORBIT_HEIGHT - this.getY()) / Math.max(this.getDeltaMovement().y, 0.1));
+        if (!debugMode) {
+            long fuel = remainingTicks * FluidConstants.NUGGET;
+            try (Transaction t = Transaction.openOuter()) {
+                if (this.getTank().extract(FluidVariant.of(GCFluids.FUEL), fuel, t) < fuel) {
+                    return;
+                }
+                t.commit();
+            }
+        }
+        this.virtualAscentTicks = VIRTUAL_ASCENT_TICKS;
+        this.entityData.set(VIRTUAL_ASCENT, true);
+        this.setDeltaMovement(Vec3.ZERO);
+    }
+
+    @Override
+    public void lerpTo(double x, double y, double z, float yaw, float pitch, int interpolationSteps) {
+        // the server no longer moves the rocket, so its position would pull the simulated rocket back down
+        if (!this.isAscendingVirtually()) {
+            super.lerpTo(x, y, z, yaw, pitch, interpolationSteps);
+        }
+    }
+
     public Vec3 calculateVelocity() {
-        double d = this.timeSinceLaunch / 150;
+        return this.calculateVelocity(Math.min(this.timeSinceLaunch / 150, 1));
+    }
+
+    private Vec3 calculateVelocity(double d) {
         double velX = -(50 * Math.cos(this.getYRot() / Mth.RAD_TO_DEG) * Math.sin(this.getXRot() * 0.01 / Constant.RADIANS_TO_DEGREES)) * (this.getSpeed() * 0.632D) * 1.58227848D;
-        double velY = -Math.min(d, 1) * Math.cos((this.getXRot() - 180) / Constant.RADIANS_TO_DEGREES) * this.getSpeed();
+        double velY = -d * Math.cos((this.getXRot() - 180) / Constant.RADIANS_TO_DEGREES) * this.getSpeed();
         double velZ = -(50 * Math.sin(this.getYRot() / Mth.RAD_TO_DEG) * Math.sin(this.getXRot() * 0.01 / Constant.RADIANS_TO_DEGREES)) * (this.getSpeed() * 0.632D) * 1.58227848D;
         return new Vec3(velX, velY, velZ);
     }
@@ -578,6 +655,16 @@ protected void readAdditionalSaveData(CompoundTag tag) {
             setSpeed(tag.getFloat("Speed"));
         }
 
+        if (tag.contains("LaunchHeight")) {
+            this.launchHeight = tag.getDouble("LaunchHeight");
+        }
+
+        // the fuel for a simulated ascent has already been taken, so it must not start over as a normal climb
+        if (tag.contains("VirtualAscentTicks")) {
+            this.virtualAscentTicks = tag.getInt("VirtualAscentTicks");
+            this.entityData.set(VIRTUAL_ASCENT, true);
+        }
+
         BlockEntity be = this.level().getBlockEntity(BlockPos.of(tag.getLong("Linked")));
         if (be instanceof FuelDock pad)
             this.linkedPad = pad;
@@ -590,6 +677,8 @@ protected void addAdditionalSaveData(CompoundTag tag) {
 
         tag.putString("Stage", getLaunchStage().name());
         tag.putDouble("Speed", this.getSpeed());
+        if (!Double.isNaN(this.launchHeight)) tag.putDouble("LaunchHeight", this.launchHeight);
+        if (this.isAscendingVirtually()) tag.putInt("VirtualAscentTicks", this.virtualAscentTicks);
 
         if (this.linkedPad != null) tag.putLong("Linked", this.linkedPad.getDockPos().asLong());
     }
@@ -24,14 +24,12 @@
 
 import com.mojang.datafixers.util.Pair;
 import dev.galacticraft.api.entity.IgnoreShift;
-import dev.galacticraft.api.universe.celestialbody.CelestialBody;
 import dev.galacticraft.mod.Constant;
 import dev.galacticraft.mod.attachments.GCServerPlayer;
 import dev.galacticraft.mod.content.GCEntityTypes;
 import dev.galacticraft.mod.content.GCFluids;
 import dev.galacticraft.mod.content.entity.ControllableEntity;
 import dev.galacticraft.mod.content.entity.ScalableFuelLevel;
-import dev.galacticraft.mod.content.entity.damage.GCDamageTypes;
 import dev.galacticraft.mod.network.s2c.ResetPerspectivePacket;
 import dev.galacticraft.mod.particle.GCParticleTypes;
 import dev.galacticraft.mod.screen.ParachestMenu;
@@ -45,15 +43,12 @@
 import net.fabricmc.fabric.api.transfer.v1.item.InventoryStorage;
 import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
 import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
-import net.minecraft.core.Holder;
 import net.minecraft.core.NonNullList;
-import net.minecraft.core.registries.Registries;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.util.Mth;
 import net.minecraft.world.Container;
 import net.minecraft.world.ContainerHelper;
-import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.InteractionResult;
 import net.minecraft.world.entity.*;
@@ -244,7 +239,7 @@ public void onGroundHit() {
                 }
                 this.level().explode(
                         this,
-                        new DamageSource(this.level().registryAccess().registryOrThrow(Registries.DAMAGE_TYPE).getHolderOrThrow(GCDamageTypes.CRASH_LANDING)),
+                        this.level().galacticraft$getDamageSources().crashLanding(),
                         new ExplosionDamageCalculator(),
                         this.getX(),
                         this.getY(),
@@ -265,8 +260,7 @@ public void tickOnGround() {
 
     public void tickInAir() {
         if (!this.onGround()) {
-            Holder<CelestialBody<?, ?>> holder = this.level().galacticraft$getCelestialBody();
-            this.addDeltaMovement(new Vec3(0, (holder != null ? holder.value().gravity() : 1.0d) * -0.008D, 0));
+            this.addDeltaMovement(new Vec3(0, this.galacticraft$getGravityMultiplier() * -0.008D, 0));
         }
 
         double motY = -1 * Math.sin(getXRot() / Constant.RADIANS_TO_DEGREES);
@@ -27,12 +27,28 @@
 import dev.galacticraft.api.universe.celestialbody.landable.teleporter.config.CelestialTeleporterConfig;
 import dev.galacticraft.api.universe.celestialbody.landable.teleporter.type.CelestialTeleporterType;
 import dev.galacticraft.impl.universe.celestialbody.landable.teleporter.config.DefaultCelestialTeleporterConfig;
+import dev.galacticraft.mod.Constant;
 import dev.galacticraft.mod.content.entity.orbital.lander.LanderEntity;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ChunkResult;
+import net.minecraft.server.level.ServerChunkCache;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.server.level.TicketType;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.status.ChunkStatus;
+
+import java.util.Comparator;
+import java.util.concurrent.CompletableFuture;
 
 public class LanderCelestialTeleporterType<Config extends CelestialTeleporterConfig> extends CelestialTeleporterType<Config> {
     public static final LanderCelestialTeleporterType<DefaultCelestialTeleporterConfig> INSTANCE = new LanderCelestialTeleporterType<>(DefaultCelestialTeleporterConfig.CODEC);
+    /**
+     * Keeps the landing area loaded while the lander falls, until the player's own chunk tickets have taken over.
+     */
+    private static final TicketType<ChunkPos> LANDING = TicketType.create("galacticraft_landing", Comparator.comparingLong(ChunkPos::toLong), 20 * 30);
+    private static final int LANDING_RADIUS = 2;
 
     public LanderCelestialTeleporterType(Codec<Config> codec) {
         super(codec);
@@ -40,10 +56,49 @@ public LanderCelestialTeleporterType(Codec<Config> codec) {
 
     @Override
     public void onEnterAtmosphere(ServerLevel level, ServerPlayer player, CelestialBody<?, ?> body, CelestialBody<?, ?> fromBody, Config config) {
-        player.teleportTo(level, player.getX(), 1100, player.getZ(), -90.0F, 45.0F);
+        double x = player.getX();
+        double z = player.getZ();
+        ChunkPos center = new ChunkPos(BlockPos.containing(x, 0, z));
+        ServerChunkCache chunkSource = level.getChunkSource();
+        chunkSource.addRegionTicket(LANDING, center, LANDING_RADIUS, center);
+
+        // generate the landing area before the player arrives, rather than while the lander is already falling through it
+        CompletableFuture<ChunkResult<ChunkAccess>>[] chunks = new CompletableFuture[(LANDING_RADIUS * 2 + 1) * (LANDING_RADIUS * 2 + 1)];
+        int i = 0;
+        for (int chunkX = center.x - LANDING_RADIUS; chunkX <= center.x + LANDING_RADIUS; chunkX++) {
+            for (int chunkZ = center.z - LANDING_RADIUS; chunkZ <= center.z + LANDING_RADIUS; chunkZ++) {
+                chunks[i++] = chunkSource.getChunkFuture(chunkX, chunkZ, ChunkStatus.FULL, true);
+            }
+        }
+        ServerLevel origin = player.serverLevel();
+        CompletableFuture.allOf(chunks).whenCompleteAsync((result, throwable) -> {
+            // the player may have died, respawned (as a new player) or moved elsewhere while the chunks were generating
+            if (player.hasDisconnected() || player.isRemoved() || !player.isAlive() || player.level() != origin) {
+                return;
+            }
+            if (throwable != null) {
+                Constant.LOGGER.error("Failed to generate the landing area at {} in {}", center, level.dimension().location(), throwable);
+            } else {
+                for (CompletableFuture<ChunkResult<ChunkAccess>> chunk : chunks) {
+                    ChunkResult<ChunkAccess> chunkResult = chunk.join();
+                    if (!chunkResult.isSuccess()) {
+                        Constant.LOGGER.warn("Failed to generate the landing area at {} in {}: {}", center, level.dimension().location(), chunkResult.getError());
+                        break;
+                    }
+                }
+            }
+            // land anyway; the lander still loads the chunks it falls through, and the player is left falling otherwise
+            this.land(level, player, x, z);
+        }, level.getServer());
+    }
+
+    private void land(ServerLevel level, ServerPlayer player, double x, double z) {
+        player.teleportTo(level, x, 1100, z, -90.0F, 45.0F);
+        // the player kept falling in the level they left while the landing area was generated
+        player.resetFallDistance();
         LanderEntity lander = new LanderEntity(player);
         level.addFreshEntity(lander);
-        lander.setPos(player.getX(), 1100, player.getZ());
+        lander.setPos(x, 1100, z);
         player.startRiding(lander, true);
     }
 }
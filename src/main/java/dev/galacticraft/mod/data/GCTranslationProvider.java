@@ -832,6 +832,12 @@ protected void generateConfigTranslations() {
         this.add(Config.PLAYER_LIFE_SUPPORT, "Life Support");
         this.add(Config.PLAYER, "Player");
         this.add(Config.PLAYER_OXYGEN_CONSUMPTION_RATE, "Oxygen Consumption Rate/t");
+        this.add(Config.SATELLITES, "Space Stations");
+        this.add(Config.SATELLITE_UNLOAD_DELAY, "Idle Unload Delay (ticks)");
+        this.add(Config.SATELLITE_UNLOAD_DELAY_DESC, "How long a space station can be empty before it is unloaded. Set to 0 to keep every station loaded.");
+        this.add(Config.ROCKETS, "Rockets");
+        this.add(Config.ROCKET_ASCENT_HEIGHT, "Simulated Ascent Height");
+        this.add(Config.ROCKET_ASCENT_HEIGHT_DESC, "How many blocks a rocket climbs before the rest of its flight to orbit is only shown on the client. Set to 0 to fly all the way up.");
         this.add(Config.RESET, "Reset");
         this.add(Config.TITLE, "Galacticraft Config");
         
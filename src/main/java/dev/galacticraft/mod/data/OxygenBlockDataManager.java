@@ -38,6 +38,7 @@
 import net.minecraft.server.packs.resources.ResourceManager;
 import net.minecraft.util.GsonHelper;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.CropBlock;
 import net.minecraft.world.level.block.LeavesBlock;
 import net.minecraft.world.level.block.state.BlockState;
@@ -54,26 +55,62 @@ public class OxygenBlockDataManager implements SimpleSynchronousResourceReloadLi
     public static final ResourceLocation ID = Constant.id("oxygen_block_data_manager");
     private static final Gson GSON = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
 
+    private static final float[] EMPTY = new float[0];
     private final Map<BlockState, Float> blocks = new HashMap<>();
+    /**
+     * Oxygen yield of every block state, indexed by {@link Block#BLOCK_STATE_REGISTRY} id.
+     * States whose block is an {@link OxygenProvidingBlock} are stored as {@link Float#NaN}.
+     */
+    private float[] yields = EMPTY;
 
     public static float getOxygen(Level level, BlockPos pos, BlockState state) {
-        if (state.getBlock() instanceof OxygenProvidingBlock oxygenProvidingBlock)
-            return oxygenProvidingBlock.getOxygen(level, pos, state);
-        return getOxygen(state);
+        float yield = INSTANCE.lookup(state);
+        if (Float.isNaN(yield))
+            return ((OxygenProvidingBlock) state.getBlock()).getOxygen(level, pos, state);
+        return yield;
     }
 
     public static float getOxygen(BlockState state) {
+        float yield = INSTANCE.lookup(state);
+        return Float.isNaN(yield) ? INSTANCE.computeYield(state) : yield;
+    }
+
+    /**
+     * Returns whether the given state can produce any oxygen.
+     * Air and zero-yield states can be skipped entirely when scanning for oxygen sources.
+     */
+    public static boolean providesOxygen(BlockState state) {
+        return INSTANCE.lookup(state) != 0;
+    }
+
+    private float lookup(BlockState state) {
+        int id = Block.getId(state);
+        return id >= 0 && id < this.yields.length ? this.yields[id] : 0;
+    }
+
+    private float computeYield(BlockState state) {
+        Float amount = this.blocks.get(state);
+        if (amount != null) return amount;
+
         boolean fallbackBehavior = true; // Probably make this a config value?
-        if (!INSTANCE.blocks.containsKey(state) && fallbackBehavior) {
+        if (fallbackBehavior) {
             if (state.getBlock() instanceof LeavesBlock && !state.getValue(LeavesBlock.PERSISTENT)) {
                 return 1;
             } else if (state.getBlock() instanceof CropBlock) {
                 return 0.75F;
             }
+        }
+        return 0;
+    }
 
-            return 0;
+    private void bakeYields() {
+        float[] yields = new float[Block.BLOCK_STATE_REGISTRY.size()];
+        for (BlockState state : Block.BLOCK_STATE_REGISTRY) {
+            int id = Block.getId(state);
+            if (id < 0 || id >= yields.length) continue;
+            yields[id] = state.getBlock() instanceof OxygenProvidingBlock ? Float.NaN : this.computeYield(state);
         }
-        return INSTANCE.blocks.get(state);
+        this.yields = yields;
     }
 
     @Override
@@ -120,6 +157,7 @@ public void onResourceManagerReload(ResourceManager manager) {
             }
 
         }
+        this.bakeYields();
     }
 
     public record OxygenData(BlockState state, float amount, boolean replace) {
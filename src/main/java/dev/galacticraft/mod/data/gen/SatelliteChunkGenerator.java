@@ -28,12 +28,14 @@
 import com.mojang.serialization.DynamicOps;
 import com.mojang.serialization.MapCodec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
+import dev.galacticraft.mod.Constant;
 import net.minecraft.core.*;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.NbtOps;
 import net.minecraft.resources.RegistryOps;
 import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.WorldGenRegion;
 import net.minecraft.util.random.WeightedRandomList;
@@ -91,22 +93,55 @@ public <T> DataResult<T> encode(StructureTemplate input, DynamicOps<T> ops, T pr
             return DataResult.success(NbtOps.INSTANCE.convertTo(ops, input.save(new CompoundTag())));
         }
     };
+    /**
+     * Stations reference their template by id, so every station built from the same template shares
+     * the single copy held by the {@link StructureTemplateManager}.
+     * Older stations embedded the whole template, which is still read (and written back) as {@code structure}.
+     */
     public static final MapCodec<SatelliteChunkGenerator> CODEC = RecordCodecBuilder.mapCodec(instance -> instance.group(
             Biome.CODEC.fieldOf("biome").forGetter(SatelliteChunkGenerator::getBiome),
-            STRUCTURE_CODEC.fieldOf("structure").forGetter(SatelliteChunkGenerator::getStructure)
+            ResourceLocation.CODEC.optionalFieldOf("template").forGetter(generator -> Optional.ofNullable(generator.template)),
+            STRUCTURE_CODEC.optionalFieldOf("structure").forGetter(generator -> generator.template == null ? Optional.ofNullable(generator.structure) : Optional.empty())
     ).apply(instance, SatelliteChunkGenerator::new));
 
     private static final NoiseColumn EMPTY_VIEW = new NoiseColumn(0, new BlockState[0]);
-    private final StructureTemplate structure;
+    private final @Nullable ResourceLocation template;
+    private @Nullable StructureTemplate structure;
     private final Holder<Biome> biome;
 
+    public SatelliteChunkGenerator(Holder<Biome> biome, ResourceLocation template) {
+        this(biome, template, null);
+    }
+
     public SatelliteChunkGenerator(Holder<Biome> biome, StructureTemplate structure) {
+        this(biome, null, structure);
+    }
+
+    private SatelliteChunkGenerator(Holder<Biome> biome, Optional<ResourceLocation> template, Optional<StructureTemplate> structure) {
+        this(biome, template.orElse(null), template.isPresent() ? null : structure.orElse(null));
+    }
+
+    private SatelliteChunkGenerator(Holder<Biome> biome, @Nullable ResourceLocation template, @Nullable StructureTemplate structure) {
         super(new FixedBiomeSource(biome));
+        this.template = template;
         this.structure = structure;
         this.biome = biome;
     }
 
-    public StructureTemplate getStructure() {
+    public @Nullable ResourceLocation getTemplate() {
+        return this.template;
+    }
+
+    /**
+     * Returns the template this station is built from, looking it up the first time if it is referenced by id.
+     */
+    public @Nullable StructureTemplate getStructure(StructureTemplateManager manager) {
+        if (this.structure == null && this.template != null) {
+            this.structure = manager.get(this.template).orElse(null);
+            if (this.structure == null) {
+                Constant.LOGGER.error("Missing satellite structure template '{}'", this.template);
+            }
+        }
         return this.structure;
     }
 
@@ -135,7 +170,9 @@ public CompletableFuture<ChunkAccess> createBiomes(RandomState noiseConfig, Blen
     @Override
     public void applyBiomeDecoration(WorldGenLevel world, ChunkAccess chunk, StructureManager structureAccessor) {
         if (chunk.getPos().x == 0 && chunk.getPos().z == 0) {
-            this.structure.placeInWorld(world, new BlockPos(0, 60, 0), new BlockPos(0, 60, 0), new StructurePlaceSettings().setIgnoreEntities(true).setLiquidSettings(LiquidSettings.APPLY_WATERLOGGING).setRandom(world.getRandom()), world.getRandom(), 0);
+            StructureTemplate structure = this.getStructure(world.getLevel().getServer().getStructureManager());
+            if (structure == null) return;
+            structure.placeInWorld(world, new BlockPos(0, 60, 0), new BlockPos(0, 60, 0), new StructurePlaceSettings().setIgnoreEntities(true).setLiquidSettings(LiquidSettings.APPLY_WATERLOGGING).setRandom(world.getRandom()), world.getRandom(), 0);
         }
     }
 
@@ -25,18 +25,17 @@
 import dev.galacticraft.api.universe.celestialbody.CelestialBody;
 import dev.galacticraft.api.universe.celestialbody.landable.Landable;
 import dev.galacticraft.api.universe.celestialbody.landable.teleporter.CelestialTeleporter;
+import dev.galacticraft.impl.internal.accessor.SatelliteLevelLoader;
+import dev.galacticraft.mod.Constant;
 import dev.galacticraft.mod.content.block.special.CryogenicChamberBlock;
 import dev.galacticraft.mod.content.block.special.CryogenicChamberPart;
-import dev.galacticraft.mod.misc.footprint.FootprintManager;
-import dev.galacticraft.mod.network.s2c.FootprintRemovedPacket;
+import dev.galacticraft.mod.misc.footprint.ServerFootprintManager;
 import dev.galacticraft.mod.util.Translations;
 import net.fabricmc.fabric.api.entity.event.v1.EntitySleepEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
-import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
-import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
-import net.minecraft.core.GlobalPos;
 import net.minecraft.core.Holder;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.MinecraftServer;
@@ -45,11 +44,11 @@
 import net.minecraft.world.InteractionResult;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
-import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.BedBlock;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
+import net.minecraft.world.level.chunk.LevelChunk;
 import org.jetbrains.annotations.Nullable;
 
 public class GCEventHandlers {
@@ -61,6 +60,8 @@ public static void init() {
         EntitySleepEvents.ALLOW_SLEEP_TIME.register(GCEventHandlers::canCryoSleep);
         EntitySleepEvents.STOP_SLEEPING.register(GCEventHandlers::onWakeFromCryoSleep);
         ServerTickEvents.END_WORLD_TICK.register(GCEventHandlers::onWorldTick);
+        ServerChunkEvents.CHUNK_LOAD.register(GCEventHandlers::onChunkLoad);
+        ServerChunkEvents.CHUNK_UNLOAD.register(GCEventHandlers::onChunkUnload);
     }
 
     public static InteractionResult allowCryogenicSleep(LivingEntity entity, BlockPos sleepingPos, BlockState state, boolean vanillaResult) {
@@ -126,8 +127,13 @@ public static void onWakeFromCryoSleep(LivingEntity entity, BlockPos sleepingPos
 
     public static void onPlayerChangePlanets(MinecraftServer server, ServerPlayer player, CelestialBody<?, ?> body, CelestialBody<?, ?> fromBody) {
         if (body.type() instanceof Landable landable && player.galacticraft$isCelestialScreenActive() && (player.galacticraft$getCelestialScreenState() == null || player.galacticraft$getCelestialScreenState().canTravel(server.registryAccess(), fromBody, body))) {
+            ServerLevel level = ((SatelliteLevelLoader) server).galacticraft$loadSatelliteLevel(landable.world(body.config()));
+            if (level == null) {
+                Constant.LOGGER.error("Failed to load level {} for {} to travel to", landable.world(body.config()).location(), player.getScoreboardName());
+                return;
+            }
             player.galacticraft$closeCelestialScreen();
-            ((CelestialTeleporter) landable.teleporter(body.config()).value()).onEnterAtmosphere(server.getLevel(landable.world(body.config())), player, body, fromBody);
+            ((CelestialTeleporter) landable.teleporter(body.config()).value()).onEnterAtmosphere(level, player, body, fromBody);
         } else {
             player.connection.disconnect(Component.translatable(Translations.DimensionTp.INVALID_PACKET));
         }
@@ -138,20 +144,17 @@ public static void onPlayerTick(Player player) {
 
     }
 
-    public static void onWorldTick(ServerLevel world) {
-        FootprintManager footprintManager = world.galacticraft$getFootprintManager();
-        if (!footprintManager.footprintBlockChanges.isEmpty()) {
-            for (GlobalPos targetPoint : footprintManager.footprintBlockChanges) {
-                ;
-                if (world.dimension().location().equals(targetPoint.dimension().location())) {
-                    long packedPos = ChunkPos.asLong(targetPoint.pos());
-                    PlayerLookup.around(world, targetPoint.pos(), 50).forEach(player -> {
-                        ServerPlayNetworking.send(player, new FootprintRemovedPacket(packedPos, targetPoint.pos()));
-                    });
-                }
-            }
+    public static void onChunkLoad(ServerLevel level, LevelChunk chunk) {
+        ((ServerFootprintManager) level.galacticraft$getFootprintManager()).loadChunk(chunk);
+    }
 
-            footprintManager.footprintBlockChanges.clear();
-        }
+    public static void onChunkUnload(ServerLevel level, LevelChunk chunk) {
+        level.galacticraft$getFootprintManager().unloadChunk(chunk.getPos().toLong());
+    }
+
+    public static void onWorldTick(ServerLevel world) {
+        world.getProfiler().push("footprints");
+        world.galacticraft$getFootprintManager().tick(world);
+        world.getProfiler().pop();
     }
 }
\ No newline at end of file
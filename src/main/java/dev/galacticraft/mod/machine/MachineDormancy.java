@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package dev.galacticraft.mod.machine;
+
+import dev.galacticraft.machinelib.api.block.entity.MachineBlockEntity;
+import dev.galacticraft.machinelib.api.machine.MachineStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Lets a machine skip its work while it is stuck in a steady status (e.g. no rocket, tank full or no energy).
+ * A dormant machine wakes up when one of its storages changes, when it is {@link #wake() woken} by a neighbour
+ * update, or after a fixed number of ticks in case the world around it changed.
+ */
+public final class MachineDormancy {
+    public static final int DEFAULT_SLEEP_TICKS = 20;
+
+    private final int sleepTicks;
+    private @Nullable MachineStatus status = null;
+    private long modifications = 0;
+    private int ticks = 0;
+
+    public MachineDormancy() {
+        this(DEFAULT_SLEEP_TICKS);
+    }
+
+    public MachineDormancy(int sleepTicks) {
+        this.sleepTicks = sleepTicks;
+    }
+
+    /**
+     * Checks whether the machine should keep sleeping this tick.
+     *
+     * @param machine the machine to check
+     * @return the status the machine is sleeping in, or {@code null} if the machine should tick normally
+     */
+    public @Nullable MachineStatus check(@NotNull MachineBlockEntity machine) {
+        if (this.status != null && (--this.ticks <= 0 || this.modifications != modifications(machine))) {
+            this.status = null;
+        }
+        return this.status;
+    }
+
+    /**
+     * Puts the machine to sleep in the given status.
+     * Must be called at the end of the machine's tick, once its storages have been updated.
+     *
+     * @param machine the machine to put to sleep
+     * @param status the steady status of the machine
+     * @return the given status
+     */
+    public @NotNull MachineStatus sleep(@NotNull MachineBlockEntity machine, @NotNull MachineStatus status) {
+        this.status = status;
+        this.modifications = modifications(machine);
+        this.ticks = this.sleepTicks;
+        return status;
+    }
+
+    public void wake() {
+        this.status = null;
+    }
+
+    public boolean isDormant() {
+        return this.status != null;
+    }
+
+    private static long modifications(@NotNull MachineBlockEntity machine) {
+        return machine.energyStorage().getModifications() + machine.itemStorage().getModifications() + machine.fluidStorage().getModifications();
+    }
+}
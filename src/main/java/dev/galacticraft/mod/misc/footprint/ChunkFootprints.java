@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.misc.footprint;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import net.minecraft.core.SectionPos;
+import net.minecraft.core.UUIDUtil;
+import net.minecraft.world.level.ChunkPos;
+import org.joml.Vector3d;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * The footprints in a single chunk, packed into parallel primitive arrays.
+ * Horizontal positions are stored relative to the chunk so they keep their precision as floats,
+ * and owners are stored as indices into a small per-chunk table of UUIDs.
+ */
+public class ChunkFootprints {
+    public static final Codec<ChunkFootprints> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+            Codec.LONG.fieldOf("chunk").forGetter(f -> f.chunkPos),
+            UUIDUtil.CODEC.listOf().fieldOf("owners").forGetter(f -> Arrays.asList(f.owners).subList(0, f.ownerCount)),
+            Codec.INT_STREAM.fieldOf("footprints").forGetter(ChunkFootprints::pack)
+    ).apply(instance, ChunkFootprints::unpack));
+    public static final int MAX_FOOTPRINTS = 1024;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int PACKED_SIZE = 5;
+
+    private final long chunkPos;
+    private final int originX;
+    private final int originZ;
+    private float[] x = new float[INITIAL_CAPACITY];
+    private float[] y = new float[INITIAL_CAPACITY];
+    private float[] z = new float[INITIAL_CAPACITY];
+    private float[] rotation = new float[INITIAL_CAPACITY];
+    private short[] age = new short[INITIAL_CAPACITY];
+    private short[] owner = new short[INITIAL_CAPACITY];
+    private final short[] columnCounts = new short[256];
+    private UUID[] owners = new UUID[4];
+    private int ownerCount = 0;
+    private int size = 0;
+
+    public ChunkFootprints(long chunkPos) {
+        this.chunkPos = chunkPos;
+        this.originX = SectionPos.sectionToBlockCoord(ChunkPos.getX(chunkPos));
+        this.originZ = SectionPos.sectionToBlockCoord(ChunkPos.getZ(chunkPos));
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public double getX(int i) {
+        return this.originX + this.x[i];
+    }
+
+    public double getY(int i) {
+        return this.y[i];
+    }
+
+    public double getZ(int i) {
+        return this.originZ + this.z[i];
+    }
+
+    public float getRotation(int i) {
+        return this.rotation[i];
+    }
+
+    public short getAge(int i) {
+        return this.age[i];
+    }
+
+    public UUID getOwner(int i) {
+        return this.owners[this.owner[i]];
+    }
+
+    public Footprint get(int i) {
+        return new Footprint(new Vector3d(this.getX(i), this.getY(i), this.getZ(i)), this.rotation[i], this.age[i], this.getOwner(i));
+    }
+
+    public void add(Footprint footprint) {
+        this.add(footprint.position.x, footprint.position.y, footprint.position.z, footprint.rotation, footprint.age, footprint.owner);
+    }
+
+    public void add(double x, double y, double z, float rotation, short age, UUID owner) {
+        int i;
+        if (this.size < MAX_FOOTPRINTS) {
+            if (this.size == this.x.length) {
+                this.grow();
+            }
+            i = this.size++;
+        } else {
+            // full; replace the oldest footprint
+            i = 0;
+            for (int j = 1; j < this.size; j++) {
+                if (this.age[j] > this.age[i]) {
+                    i = j;
+                }
+            }
+            this.columnCounts[this.column(i)]--;
+        }
+        this.x[i] = (float) (x - this.originX);
+        this.y[i] = (float) y;
+        this.z[i] = (float) (z - this.originZ);
+        this.rotation[i] = rotation;
+        this.age[i] = age;
+        this.owner[i] = this.ownerIndex(owner);
+        this.columnCounts[this.column(i)]++;
+    }
+
+    /**
+     * Returns the index of a block column within its chunk, as used by {@link #removeInColumn(int)}.
+     */
+    public static int column(int blockX, int blockZ) {
+        return (blockZ & 15) << 4 | blockX & 15;
+    }
+
+    private int column(int i) {
+        return ((int) this.z[i] & 15) << 4 | (int) this.x[i] & 15;
+    }
+
+    /**
+     * Ages every footprint in this chunk and drops the ones that have faded away.
+     *
+     * @param ticks the number of ticks to age the footprints by
+     * @return whether any footprints were removed
+     */
+    public boolean age(int ticks) {
+        int kept = 0;
+        for (int i = 0; i < this.size; i++) {
+            int age = this.age[i] + ticks;
+            if (age < Footprint.MAX_AGE) {
+                this.move(i, kept);
+                this.age[kept++] = (short) age;
+            } else {
+                this.columnCounts[this.column(i)]--;
+            }
+        }
+        return this.truncate(kept);
+    }
+
+    /**
+     * Removes every footprint in the given block column.
+     * Columns are counted as footprints are added, so this is free for columns without any.
+     *
+     * @param column the index of the column, from {@link #column(int, int)}
+     * @return whether any footprints were removed
+     */
+    public boolean removeInColumn(int column) {
+        if (this.columnCounts[column] == 0) return false;
+        int kept = 0;
+        for (int i = 0; i < this.size; i++) {
+            if (this.column(i) != column) {
+                this.move(i, kept++);
+            }
+        }
+        this.columnCounts[column] = 0;
+        return this.truncate(kept);
+    }
+
+    private IntStream pack() {
+        int[] packed = new int[this.size * PACKED_SIZE];
+        for (int i = 0; i < this.size; i++) {
+            int j = i * PACKED_SIZE;
+            packed[j] = Float.floatToIntBits(this.x[i]);
+            packed[j + 1] = Float.floatToIntBits(this.y[i]);
+            packed[j + 2] = Float.floatToIntBits(this.z[i]);
+            packed[j + 3] = Float.floatToIntBits(this.rotation[i]);
+            packed[j + 4] = this.age[i] << 16 | this.owner[i] & 0xFFFF;
+        }
+        return IntStream.of(packed);
+    }
+
+    private static ChunkFootprints unpack(long chunkPos, List<UUID> owners, IntStream stream) {
+        ChunkFootprints footprints = new ChunkFootprints(chunkPos);
+        footprints.owners = owners.toArray(new UUID[Math.max(owners.size(), 4)]);
+        footprints.ownerCount = owners.size();
+
+        int[] packed = stream.toArray();
+        int size = Math.min(packed.length / PACKED_SIZE, MAX_FOOTPRINTS);
+        while (footprints.x.length < size) {
+            footprints.grow();
+        }
+        for (int i = 0; i < size; i++) {
+            int j = i * PACKED_SIZE;
+            int owner = packed[j + 4] & 0xFFFF;
+            if (owner < footprints.ownerCount) {
+                int k = footprints.size++;
+                footprints.x[k] = Float.intBitsToFloat(packed[j]);
+                footprints.y[k] = Float.intBitsToFloat(packed[j + 1]);
+                footprints.z[k] = Float.intBitsToFloat(packed[j + 2]);
+                footprints.rotation[k] = Float.intBitsToFloat(packed[j + 3]);
+                footprints.age[k] = (short) (packed[j + 4] >>> 16);
+                footprints.owner[k] = (short) owner;
+                footprints.columnCounts[footprints.column(k)]++;
+            }
+        }
+        return footprints;
+    }
+
+    private void move(int from, int to) {
+        if (from != to) {
+            this.x[to] = this.x[from];
+            this.y[to] = this.y[from];
+            this.z[to] = this.z[from];
+            this.rotation[to] = this.rotation[from];
+            this.age[to] = this.age[from];
+            this.owner[to] = this.owner[from];
+        }
+    }
+
+    private boolean truncate(int size) {
+        if (size == this.size) return false;
+        this.size = size;
+        if (size == 0) {
+            // nothing references the owner table any more
+            Arrays.fill(this.owners, 0, this.ownerCount, null);
+            this.ownerCount = 0;
+        }
+        return true;
+    }
+
+    private short ownerIndex(UUID uuid) {
+        for (int i = 0; i < this.ownerCount; i++) {
+            if (this.owners[i].equals(uuid)) {
+                return (short) i;
+            }
+        }
+        if (this.ownerCount == this.owners.length) {
+            this.owners = Arrays.copyOf(this.owners, this.owners.length * 2);
+        }
+        this.owners[this.ownerCount] = uuid;
+        return (short) this.ownerCount++;
+    }
+
+    private void grow() {
+        int capacity = Math.min(this.x.length * 2, MAX_FOOTPRINTS);
+        this.x = Arrays.copyOf(this.x, capacity);
+        this.y = Arrays.copyOf(this.y, capacity);
+        this.z = Arrays.copyOf(this.z, capacity);
+        this.rotation = Arrays.copyOf(this.rotation, capacity);
+        this.age = Arrays.copyOf(this.age, capacity);
+        this.owner = Arrays.copyOf(this.owner, capacity);
+    }
+}
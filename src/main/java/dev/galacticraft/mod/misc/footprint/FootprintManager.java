@@ -22,59 +22,91 @@
 
 package dev.galacticraft.mod.misc.footprint;
 
-import com.google.common.collect.Lists;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
-import net.minecraft.core.GlobalPos;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
-
-import java.util.ArrayList;
-import java.util.List;
+import org.jetbrains.annotations.Nullable;
 
 public class FootprintManager {
-    public List<GlobalPos> footprintBlockChanges = Lists.newArrayList();
-    public Long2ObjectMap<List<Footprint>> globalFootprints = new Long2ObjectOpenHashMap<>();
-
-    public void tick(Level level, long packedPos) {
-        if (level.getGameTime() % 20 == 0) {
-
-            Long2ObjectMap<List<Footprint>> footprintMap = globalFootprints;
-            if (footprintMap != null) {
-                List<Footprint> footprints = footprintMap.get(packedPos);
-
-                if (footprints != null) {
-                    List<Footprint> toRemove = new ArrayList<>();
-
-                    for (Footprint footprint : footprints) {
-                        footprint.age += (short)20;
-
-                        if (footprint.age >= Footprint.MAX_AGE) {
-                            toRemove.add(footprint);
-                        }
+    private final Long2ObjectMap<ChunkFootprints> footprints = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * Ages the footprints in every chunk that has any, once a second.
+     * Both sides age footprints themselves, so expiry never has to be synced.
+     */
+    public void tick(Level level) {
+        if (level.getGameTime() % 20 == 0 && !this.footprints.isEmpty()) {
+            ObjectIterator<Long2ObjectMap.Entry<ChunkFootprints>> iterator = Long2ObjectMaps.fastIterator(this.footprints);
+            while (iterator.hasNext()) {
+                Long2ObjectMap.Entry<ChunkFootprints> entry = iterator.next();
+                ChunkFootprints footprints = entry.getValue();
+                if (footprints.age(20)) {
+                    this.onChanged(entry.getLongKey(), footprints);
+                    if (footprints.isEmpty()) {
+                        iterator.remove();
                     }
+                }
+            }
+        }
+    }
 
-                    if (!toRemove.isEmpty()) {
-                        footprints.removeAll(toRemove);
-                    }
+    public void addFootprint(long packedPos, Footprint footprint) {
+        ChunkFootprints footprints = this.getOrCreateFootprints(packedPos);
+        if (footprints != null) {
+            footprints.add(footprint);
+            this.onChanged(packedPos, footprints);
+        }
+    }
 
-                    footprintMap.put(packedPos, footprints);
+    public void removeFootprints(BlockPos pos) {
+        this.removeFootprints(ChunkPos.asLong(pos), ChunkFootprints.column(pos.getX(), pos.getZ()));
+    }
 
-                    onChange(level, packedPos, footprints);
-                }
+    /**
+     * Removes the footprints in a block column of a chunk.
+     *
+     * @param column the index of the column within the chunk, from {@link ChunkFootprints#column(int, int)}
+     * @return whether any footprints were removed
+     */
+    public boolean removeFootprints(long packedPos, int column) {
+        ChunkFootprints footprints = this.footprints.get(packedPos);
+        if (footprints != null && footprints.removeInColumn(column)) {
+            this.onChanged(packedPos, footprints);
+            if (footprints.isEmpty()) {
+                this.footprints.remove(packedPos);
             }
+            return true;
         }
+        return false;
     }
 
-    public void onChange(Level level, long pos, List<Footprint> footprints) {
+    /**
+     * Returns whether no loaded chunk in this level has footprints.
+     * Levels whose dimension has no footprints are always empty, so this is used to skip footprint bookkeeping there.
+     */
+    public boolean isEmpty() {
+        return this.footprints.isEmpty();
     }
 
-    public void addFootprint(long packedPos, Footprint footprint) {
-        List<Footprint> footprints = globalFootprints.computeIfAbsent(packedPos, key -> new ArrayList<>());
+    /**
+     * Stops tracking the footprints of a chunk that is no longer loaded.
+     */
+    public void unloadChunk(long packedPos) {
+        this.footprints.remove(packedPos);
+    }
+
+    public Long2ObjectMap<ChunkFootprints> getFootprints() {
+        return this.footprints;
+    }
 
-        footprints.add(footprint);
+    protected @Nullable ChunkFootprints getOrCreateFootprints(long packedPos) {
+        return this.footprints.computeIfAbsent(packedPos, ChunkFootprints::new);
     }
 
-    public Long2ObjectMap<List<Footprint>> getFootprints() {
-        return globalFootprints;
+    protected void onChanged(long packedPos, ChunkFootprints footprints) {
     }
 }
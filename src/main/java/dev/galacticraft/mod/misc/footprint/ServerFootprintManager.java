@@ -22,25 +22,119 @@
 
 package dev.galacticraft.mod.misc.footprint;
 
+import dev.galacticraft.mod.attachments.GCAttachments;
 import dev.galacticraft.mod.network.s2c.FootprintPacket;
+import dev.galacticraft.mod.network.s2c.FootprintRemovedPacket;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.LevelChunk;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 public class ServerFootprintManager extends FootprintManager {
+    private final ServerLevel level;
+    private final Long2ObjectMap<List<Footprint>> added = new Long2ObjectOpenHashMap<>();
+    private final Long2ObjectMap<BitSet> removed = new Long2ObjectOpenHashMap<>();
+
+    public ServerFootprintManager(ServerLevel level) {
+        this.level = level;
+    }
+
+    /**
+     * Starts tracking the footprints saved with a chunk that was just loaded.
+     */
+    public void loadChunk(LevelChunk chunk) {
+        ChunkFootprints footprints = chunk.getAttached(GCAttachments.FOOTPRINTS);
+        if (footprints != null) {
+            this.getFootprints().put(chunk.getPos().toLong(), footprints);
+        }
+    }
+
     @Override
-    public void onChange(Level level, long packedPos, List<Footprint> footprints) {
-        if (level.getGameTime() % 100 == 0) {
-            PlayerLookup.tracking((ServerLevel) level, new ChunkPos(packedPos)).forEach(player -> {
-                List<Footprint> toSync = new ArrayList<>(footprints);
-                toSync.removeIf(footprint -> footprint.owner.equals(player.getUUID()));
-                ServerPlayNetworking.send(player, new FootprintPacket(packedPos, toSync));
-            });
+    protected @Nullable ChunkFootprints getOrCreateFootprints(long packedPos) {
+        ChunkFootprints footprints = this.getFootprints().get(packedPos);
+        if (footprints == null) {
+            LevelChunk chunk = this.level.getChunkSource().getChunkNow(ChunkPos.getX(packedPos), ChunkPos.getZ(packedPos));
+            if (chunk == null) return null;
+            footprints = chunk.getAttachedOrCreate(GCAttachments.FOOTPRINTS, () -> new ChunkFootprints(packedPos));
+            this.getFootprints().put(packedPos, footprints);
+        }
+        return footprints;
+    }
+
+    @Override
+    protected void onChanged(long packedPos, ChunkFootprints footprints) {
+        LevelChunk chunk = this.level.getChunkSource().getChunkNow(ChunkPos.getX(packedPos), ChunkPos.getZ(packedPos));
+        if (chunk != null) {
+            if (footprints.isEmpty()) {
+                chunk.removeAttached(GCAttachments.FOOTPRINTS);
+            }
+            chunk.setUnsaved(true);
+        }
+    }
+
+    @Override
+    public void addFootprint(long packedPos, Footprint footprint) {
+        super.addFootprint(packedPos, footprint);
+        this.added.computeIfAbsent(packedPos, key -> new ArrayList<>()).add(footprint);
+    }
+
+    @Override
+    public boolean removeFootprints(long packedPos, int column) {
+        if (super.removeFootprints(packedPos, column)) {
+            this.removed.computeIfAbsent(packedPos, key -> new BitSet(256)).set(column);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Ages footprints and sends the ones added or removed this tick to the players tracking their chunks.
+     * Clients ignore their own footprints, since they already placed those themselves.
+     */
+    @Override
+    public void tick(Level level) {
+        super.tick(level);
+        if (!this.added.isEmpty()) {
+            for (Long2ObjectMap.Entry<List<Footprint>> entry : this.added.long2ObjectEntrySet()) {
+                FootprintPacket packet = new FootprintPacket(entry.getLongKey(), false, entry.getValue());
+                for (ServerPlayer player : PlayerLookup.tracking((ServerLevel) level, new ChunkPos(entry.getLongKey()))) {
+                    ServerPlayNetworking.send(player, packet);
+                }
+            }
+            this.added.clear();
+        }
+        if (!this.removed.isEmpty()) {
+            for (Long2ObjectMap.Entry<BitSet> entry : this.removed.long2ObjectEntrySet()) {
+                FootprintRemovedPacket packet = new FootprintRemovedPacket(entry.getLongKey(), entry.getValue().toByteArray());
+                for (ServerPlayer player : PlayerLookup.tracking((ServerLevel) level, new ChunkPos(entry.getLongKey()))) {
+                    ServerPlayNetworking.send(player, packet);
+                }
+            }
+            this.removed.clear();
+        }
+    }
+
+    /**
+     * Sends every footprint in a chunk to a player that just started tracking it.
+     */
+    public void sendFootprints(ServerPlayer player, long packedPos) {
+        ChunkFootprints footprints = this.getFootprints().get(packedPos);
+        if (footprints != null && !footprints.isEmpty()) {
+            List<Footprint> toSync = new ArrayList<>(footprints.size());
+            for (int i = 0; i < footprints.size(); i++) {
+                toSync.add(footprints.get(i));
+            }
+            ServerPlayNetworking.send(player, new FootprintPacket(packedPos, true, toSync));
         }
     }
 }
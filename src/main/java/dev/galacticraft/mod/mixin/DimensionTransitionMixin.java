@@ -22,6 +22,7 @@
 
 package dev.galacticraft.mod.mixin;
 
+import dev.galacticraft.impl.internal.accessor.SatelliteLevelLoader;
 import dev.galacticraft.mod.content.block.special.CryogenicChamberBlock;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -45,7 +46,7 @@ private static void findRespawnAndUseCryoChamber(ServerLevel overworld, Entity e
         if (entity instanceof ServerPlayer serverPlayer) {
             BlockPos blockPos = serverPlayer.getRespawnPosition();
             float yaw = serverPlayer.getRespawnAngle();
-            ServerLevel serverLevel = serverPlayer.server.getLevel(serverPlayer.getRespawnDimension());
+            ServerLevel serverLevel = ((SatelliteLevelLoader) serverPlayer.server).galacticraft$loadSatelliteLevel(serverPlayer.getRespawnDimension());
             if (serverLevel != null && blockPos != null) {
                 if (gc$canRespawn(serverLevel, blockPos)) {
                     cir.setReturnValue(new DimensionTransition(serverLevel, blockPos.getBottomCenter(), Vec3.ZERO, yaw, 0.0f, postDimensionTransition));
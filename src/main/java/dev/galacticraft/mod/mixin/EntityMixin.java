@@ -23,13 +23,11 @@
 package dev.galacticraft.mod.mixin;
 
 import dev.galacticraft.mod.accessor.EntityAccessor;
-import dev.galacticraft.mod.content.entity.damage.GCDamageTypes;
 import dev.galacticraft.mod.misc.footprint.Footprint;
 import dev.galacticraft.mod.tag.GCTags;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.SectionPos;
 import net.minecraft.core.particles.ParticleTypes;
-import net.minecraft.core.registries.Registries;
 import net.minecraft.sounds.SoundEvent;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.tags.TagKey;
@@ -44,6 +42,8 @@
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.material.Fluid;
+import net.minecraft.world.level.material.FluidState;
+import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.Nullable;
 import org.joml.Vector3d;
@@ -59,6 +59,10 @@
 
 @Mixin(Entity.class)
 public abstract class EntityMixin implements EntityAccessor {
+    private static final @Unique int OIL_FLUID = 0b001;
+    private static final @Unique int FUEL_FLUID = 0b010;
+    private static final @Unique int SULFURIC_ACID_FLUID = 0b100;
+
     private @Unique double distanceSinceLastStep;
     private @Unique int lastStep;
     private @Unique int lastAcidSoundPlayTick = -20;
@@ -95,15 +99,9 @@ public abstract class EntityMixin implements EntityAccessor {
     @Shadow
     private Vec3 position;
 
-    @Shadow
-    protected UUID uuid;
-
     @Shadow
     public abstract boolean isAlwaysTicking();
 
-    @Shadow
-    private int id;
-
     @Shadow
     public abstract boolean isInvulnerable();
 
@@ -147,22 +145,26 @@ public abstract class EntityMixin implements EntityAccessor {
     @Shadow
     public abstract EntityType<?> getType();
 
+    @Shadow
+    public abstract AABB getBoundingBox();
+
     @Inject(method = "updateInWaterStateAndDoWaterCurrentPushing", at = @At("TAIL"))
     private void checkWaterStateGC(CallbackInfo ci) {
-        Player player = level.getPlayerByUUID(uuid);
-        boolean isCreative = (player != null) && (player.isCreative() || player.isSpectator());
-        if (this.updateFluidHeightAndDoFluidPushing(GCTags.OIL, 0.0028d) || this.updateFluidHeightAndDoFluidPushing(GCTags.FUEL, 0.0028d)) {
+        int fluids = this.findGalacticraftFluids();
+        if (fluids == 0) return;
+
+        if (((fluids & OIL_FLUID) != 0 && this.updateFluidHeightAndDoFluidPushing(GCTags.OIL, 0.0028d))
+                || ((fluids & FUEL_FLUID) != 0 && this.updateFluidHeightAndDoFluidPushing(GCTags.FUEL, 0.0028d))) {
             if (this.isOnFire()) {
-                level.explode(level.getEntity(id), position.x, position.y, position.z, 0f, Level.ExplosionInteraction.NONE);
-                if (!isCreative) {
-                    this.hurt(new DamageSource(this.level.registryAccess().registryOrThrow(Registries.DAMAGE_TYPE).getHolderOrThrow(GCDamageTypes.OIL_BOOM)), 20.0f);
+                level.explode((Entity) (Object) this, position.x, position.y, position.z, 0f, Level.ExplosionInteraction.NONE);
+                if (!this.isCreativeOrSpectator()) {
+                    this.hurt(this.level.galacticraft$getDamageSources().oilBoom(), 20.0f);
                 }
             }
-        } else if (this.updateFluidHeightAndDoFluidPushing(GCTags.SULFURIC_ACID, 0.0028d)) {
+        } else if ((fluids & SULFURIC_ACID_FLUID) != 0 && this.updateFluidHeightAndDoFluidPushing(GCTags.SULFURIC_ACID, 0.0028d)) {
             // The entity enters an acid fluid, this entity needs to take damage
-            if (!isCreative) {
-                this.hurt(new DamageSource(this.level.registryAccess().registryOrThrow(Registries.DAMAGE_TYPE)
-                        .getHolderOrThrow(GCDamageTypes.SULFURIC_ACID)), 2.0f);
+            if (!this.isCreativeOrSpectator()) {
+                this.hurt(this.level.galacticraft$getDamageSources().sulfuricAcid(), 2.0f);
 
                 if (this.shouldPlaySulfuricAcidSound()) {
                     this.playSulfuricAcidSound();
@@ -172,6 +174,44 @@ private void checkWaterStateGC(CallbackInfo ci) {
         }
     }
 
+    /**
+     * Scans the fluids touching this entity once and returns which Galacticraft fluids were found,
+     * so that the fluid pushing logic only runs for fluids that are actually present.
+     */
+    @Unique
+    private int findGalacticraftFluids() {
+        AABB box = this.getBoundingBox().deflate(0.001);
+        int minX = Mth.floor(box.minX);
+        int maxX = Mth.ceil(box.maxX);
+        int minY = Mth.floor(box.minY);
+        int maxY = Mth.ceil(box.maxY);
+        int minZ = Mth.floor(box.minZ);
+        int maxZ = Mth.ceil(box.maxZ);
+        BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
+        int fluids = 0;
+        for (int x = minX; x < maxX; x++) {
+            for (int y = minY; y < maxY; y++) {
+                for (int z = minZ; z < maxZ; z++) {
+                    FluidState state = this.level.getFluidState(mutable.set(x, y, z));
+                    if (state.isEmpty()) continue;
+                    if (state.is(GCTags.OIL)) {
+                        fluids |= OIL_FLUID;
+                    } else if (state.is(GCTags.FUEL)) {
+                        fluids |= FUEL_FLUID;
+                    } else if (state.is(GCTags.SULFURIC_ACID)) {
+                        fluids |= SULFURIC_ACID_FLUID;
+                    }
+                }
+            }
+        }
+        return fluids;
+    }
+
+    @Unique
+    private boolean isCreativeOrSpectator() {
+        return (Object) this instanceof Player player && (player.isCreative() || player.isSpectator());
+    }
+
     @Unique
     private boolean shouldPlaySulfuricAcidSound() {
         return this.tickCount >= this.lastAcidSoundPlayTick + 5;
@@ -231,7 +271,7 @@ private void tickFootprints(MoverType type, Vec3 motion, CallbackInfo ci) {
                 // If the block below is the moon block
                 if (state.is(GCTags.FOOTPRINTS)) {
                     long chunkKey = ChunkPos.asLong(SectionPos.blockToSectionCoord(pos.x), SectionPos.blockToSectionCoord(pos.z));
-                    level.galacticraft$getFootprintManager().addFootprint(chunkKey, new Footprint(level.dimensionTypeRegistration().unwrapKey().get().location(), pos, getYRot(), getUUID()));
+                    level.galacticraft$getFootprintManager().addFootprint(chunkKey, new Footprint(pos, getYRot(), getUUID()));
                 }
 
                 // Increment and cap step counter at 1
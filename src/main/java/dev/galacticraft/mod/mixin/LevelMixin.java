@@ -23,9 +23,31 @@
 package dev.galacticraft.mod.mixin;
 
 import dev.galacticraft.mod.accessor.LevelAccessor;
+import dev.galacticraft.mod.content.entity.damage.GCDamageSources;
+import net.minecraft.core.Holder;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.resources.ResourceKey;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.storage.WritableLevelData;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+import java.util.function.Supplier;
 
 @Mixin(Level.class)
 public class LevelMixin implements LevelAccessor {
+    private @Unique GCDamageSources damageSources;
+
+    @Inject(method = "<init>", at = @At("RETURN"))
+    private void initializeDamageSources(WritableLevelData writableLevelData, ResourceKey<Level> resourceKey, RegistryAccess registryAccess, Holder holder, Supplier supplier, boolean bl, boolean bl2, long l, int i, CallbackInfo ci) {
+        this.damageSources = new GCDamageSources(registryAccess);
+    }
+
+    @Override
+    public GCDamageSources galacticraft$getDamageSources() {
+        return this.damageSources;
+    }
 }
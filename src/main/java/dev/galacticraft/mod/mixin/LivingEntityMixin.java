@@ -136,19 +136,15 @@ public void setCryogenicChamberCooldown(int cryogenicChamberCooldown) {
     @ModifyReturnValue(method = "getAttributeValue", at = @At(value = "RETURN"))
     private double gc$adjustSafeFallDistance(double original, Holder<Attribute> attribute) {
         if (attribute == Attributes.SAFE_FALL_DISTANCE) {
-            Holder<CelestialBody<?, ?>> holder = this.level().galacticraft$getCelestialBody();
-            if (holder != null) {
-                double gravity = holder.value().gravity();
-                return gravity > 0 ? original / gravity : original;
-            }
+            double gravity = this.galacticraft$getGravityMultiplier();
+            return gravity > 0 ? original / gravity : original;
         }
         return original;
     }
 
     @ModifyArg(method = "calculateFallDamage", at = @At(value = "INVOKE", target = "Lnet/minecraft/util/Mth;ceil(D)I"), index = 0)
     protected double gc$adjustFallDamage(double original) {
-        Holder<CelestialBody<?, ?>> holder = this.level().galacticraft$getCelestialBody();
-        return holder != null ? original * holder.value().gravity() : original;
+        return original * this.galacticraft$getGravityMultiplier();
     }
 
     @ModifyExpressionValue(method = "travel", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/entity/LivingEntity;isFallFlying()Z"))
@@ -25,11 +25,14 @@
 import com.google.common.collect.ImmutableList;
 import dev.galacticraft.mod.accessor.LevelAccessor;
 import dev.galacticraft.mod.accessor.ServerLevelAccessor;
+import dev.galacticraft.mod.api.block.entity.AbstractSolarPanelBlockEntity;
 import dev.galacticraft.mod.content.block.entity.machine.OxygenSealerBlockEntity;
 import dev.galacticraft.mod.misc.footprint.FootprintManager;
 import dev.galacticraft.mod.misc.footprint.ServerFootprintManager;
 import dev.galacticraft.mod.world.dimension.GCDimensions;
 import dev.galacticraft.mod.world.gen.spawner.EvolvedPillagerSpawner;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Holder;
 import net.minecraft.core.RegistryAccess;
@@ -39,10 +42,10 @@
 import net.minecraft.server.level.progress.ChunkProgressListener;
 import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.RandomSequences;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.CustomSpawner;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.world.level.dimension.DimensionType;
 import net.minecraft.world.level.dimension.LevelStem;
 import net.minecraft.world.level.storage.LevelStorageSource;
@@ -54,6 +57,7 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -65,7 +69,8 @@
 public abstract class ServerLevelMixin extends Level implements LevelAccessor, ServerLevelAccessor {
     @Shadow @Final @Mutable private List<CustomSpawner> customSpawners;
     private final @Unique Set<OxygenSealerBlockEntity> sealers = new HashSet<>();
-    private final @Unique FootprintManager footprintManager = new ServerFootprintManager();
+    private final @Unique Long2ObjectMap<List<AbstractSolarPanelBlockEntity>> solarPanelColumns = new Long2ObjectOpenHashMap<>();
+    private final @Unique FootprintManager footprintManager = new ServerFootprintManager((ServerLevel) (Object) this);
 
     protected ServerLevelMixin(WritableLevelData levelData, ResourceKey<Level> dimension, RegistryAccess registryAccess, Holder<DimensionType> dimensionTypeRegistration, Supplier<ProfilerFiller> profiler, boolean isClientSide, boolean isDebug, long biomeZoomSeed, int maxChainedNeighborUpdates) {
         super(levelData, dimension, registryAccess, dimensionTypeRegistration, profiler, isClientSide, isDebug, biomeZoomSeed, maxChainedNeighborUpdates);
@@ -91,6 +96,16 @@ private void updateSealerListeners_gc(BlockPos pos, BlockState oldState, BlockSt
         this.sealers.removeAll(queueRemove);
     }
 
+    @Inject(method = "sendBlockUpdated", at = @At("HEAD"))
+    private void updateSolarPanelListeners_gc(BlockPos pos, BlockState oldState, BlockState newState, int flags, CallbackInfo ci) {
+        List<AbstractSolarPanelBlockEntity> panels = this.solarPanelColumns.get(ChunkPos.asLong(pos.getX(), pos.getZ()));
+        if (panels != null) {
+            for (AbstractSolarPanelBlockEntity panel : panels) {
+                panel.onSkyColumnChanged(pos);
+            }
+        }
+    }
+
     @Override
     public void addSealer(OxygenSealerBlockEntity sealer) {
         this.sealers.add(sealer);
@@ -101,12 +116,29 @@ public void removeSealer(OxygenSealerBlockEntity sealer) {
         this.sealers.remove(sealer);
     }
 
-    @Inject(method = "tickChunk", at = @At("HEAD"))
-    private void tickFootprints(LevelChunk chunk, int randomTickSpeed, CallbackInfo ci) {
-        var profiler = getProfiler();
-        profiler.push("footprints");
-        footprintManager.tick((ServerLevel) (Object) this, chunk.getPos().toLong());
-        profiler.pop();
+    @Override
+    public void addSolarPanel(AbstractSolarPanelBlockEntity panel) {
+        BlockPos pos = panel.getBlockPos();
+        for (int x = -1; x < 2; x++) {
+            for (int z = -1; z < 2; z++) {
+                List<AbstractSolarPanelBlockEntity> panels = this.solarPanelColumns.computeIfAbsent(ChunkPos.asLong(pos.getX() + x, pos.getZ() + z), k -> new ArrayList<>(1));
+                if (!panels.contains(panel)) panels.add(panel);
+            }
+        }
+    }
+
+    @Override
+    public void removeSolarPanel(AbstractSolarPanelBlockEntity panel) {
+        BlockPos pos = panel.getBlockPos();
+        for (int x = -1; x < 2; x++) {
+            for (int z = -1; z < 2; z++) {
+                long column = ChunkPos.asLong(pos.getX() + x, pos.getZ() + z);
+                List<AbstractSolarPanelBlockEntity> panels = this.solarPanelColumns.get(column);
+                if (panels != null && panels.remove(panel) && panels.isEmpty()) {
+                    this.solarPanelColumns.remove(column);
+                }
+            }
+        }
     }
 
     @Override
@@ -26,6 +26,8 @@
 import dev.galacticraft.api.rocket.RocketData;
 import dev.galacticraft.mod.accessor.ServerPlayerAccessor;
 import dev.galacticraft.mod.content.block.special.CryogenicChamberBlock;
+import dev.galacticraft.mod.content.entity.ControllableEntity;
+import dev.galacticraft.mod.network.c2s.ControlEntityPayload;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
@@ -44,10 +46,17 @@
 
 @Mixin(ServerPlayer.class)
 public abstract class ServerPlayerMixin extends LivingEntityMixin implements ServerPlayerAccessor {
+    /**
+     * How long the last control input is kept without hearing from the client, a few times the client's keepalive interval.
+     */
+    private static final @Unique int CONTROL_INPUT_TIMEOUT = 60;
 
     private @Unique @Nullable RocketData rocketData = null;
     private @Unique boolean celestialActive = false;
     private @Unique boolean isRideTick = false;
+    private @Unique @Nullable ControlEntityPayload controlInput = null;
+    private @Unique int controlInputAge = 0;
+    private @Unique boolean controlInputApplied = false;
 
     @Override
     public boolean galacticraft$isCelestialScreenActive() {
@@ -75,6 +84,13 @@ public ServerPlayerMixin(EntityType<?> entityType, Level level) {
         this.rocketData = data;
     }
 
+    @Override
+    public void galacticraft$setControlInput(ControlEntityPayload input) {
+        this.controlInput = input;
+        this.controlInputAge = 0;
+        this.controlInputApplied = true;
+    }
+
     @Inject(method = "addAdditionalSaveData", at = @At("RETURN"))
     private void writeCelestialData(CompoundTag nbt, CallbackInfo ci) {
         nbt.putBoolean("CelestialActive", this.celestialActive);
@@ -96,6 +112,17 @@ private void readCelestialData(CompoundTag nbt, CallbackInfo ci) {
     @Inject(method = "rideTick", at = @At("HEAD"))
     private void rideTickStart(CallbackInfo ci) {
         this.isRideTick = true;
+        if (this.controlInput != null) {
+            if (this.getVehicle() instanceof ControllableEntity controllable && this.controlInputAge++ < CONTROL_INPUT_TIMEOUT) {
+                // inputs that arrived this tick have already been applied
+                if (!this.controlInputApplied) {
+                    this.controlInput.apply(controllable);
+                }
+            } else {
+                this.controlInput = null;
+            }
+        }
+        this.controlInputApplied = false;
     }
 
     @Inject(method = "rideTick", at = @At("TAIL"))
@@ -111,6 +138,12 @@ private void canStopRiding(CallbackInfo ci) {
         }
     }
 
+    @Inject(method = "stopRiding", at = @At("TAIL"))
+    private void clearControlInput(CallbackInfo ci) {
+        // never carry the input for one vehicle over to the next
+        this.controlInput = null;
+    }
+
     @Inject(method = "bedBlocked", at = @At(value = "HEAD"), cancellable = true)
     private void checkIfCryoBedBlocked(BlockPos sleepingPos, Direction direction, CallbackInfoReturnable<Boolean> cir) {
         BlockPos basePos = sleepingPos.below();
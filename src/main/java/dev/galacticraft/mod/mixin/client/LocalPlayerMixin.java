@@ -42,6 +42,7 @@
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.MoverType;
 import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.Nullable;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
@@ -60,6 +61,13 @@ public abstract class LocalPlayerMixin extends AbstractClientPlayer {
     @Shadow
     public Input input;
 
+    /**
+     * How often the control input is resent while it does not change, so the server knows it is still current.
+     */
+    private static final @Unique int CONTROL_INPUT_KEEPALIVE = 20;
+    private @Unique @Nullable ControlEntityPayload lastControlInput = null;
+    private @Unique int controlInputTicks = 0;
+
     public LocalPlayerMixin(ClientLevel clientLevel, GameProfile gameProfile) {
         super(clientLevel, gameProfile);
     }
@@ -67,11 +75,16 @@ public LocalPlayerMixin(ClientLevel clientLevel, GameProfile gameProfile) {
     @Inject(at = @At("RETURN"), method = "aiStep")
     private void gcRocketJumpCheck(CallbackInfo ci) {
         LocalPlayer player = (LocalPlayer) (Object) this;
-        if (player.isPassenger()) {
-            if (player.getVehicle() instanceof ControllableEntity controllable) {
-                controllable.inputTick(input.leftImpulse, input.forwardImpulse, input.up, input.down, input.left, input.right, input.jumping, input.shiftKeyDown);
-                ClientPlayNetworking.send(new ControlEntityPayload(input.leftImpulse, input.forwardImpulse, input.up, input.down, input.left, input.right, input.jumping, input.shiftKeyDown));
+        if (player.isPassenger() && player.getVehicle() instanceof ControllableEntity controllable) {
+            controllable.inputTick(input.leftImpulse, input.forwardImpulse, input.up, input.down, input.left, input.right, input.jumping, input.shiftKeyDown);
+            ControlEntityPayload controlInput = new ControlEntityPayload(input.leftImpulse, input.forwardImpulse, input.up, input.down, input.left, input.right, input.jumping, input.shiftKeyDown);
+            if (!controlInput.equals(this.lastControlInput) || ++this.controlInputTicks >= CONTROL_INPUT_KEEPALIVE) {
+                ClientPlayNetworking.send(controlInput);
+                this.lastControlInput = controlInput;
+                this.controlInputTicks = 0;
             }
+        } else {
+            this.lastControlInput = null;
         }
     }
 
@@ -25,34 +25,36 @@
 import dev.galacticraft.impl.network.c2s.C2SPayload;
 import dev.galacticraft.mod.Constant;
 import dev.galacticraft.mod.content.entity.ControllableEntity;
-import dev.galacticraft.mod.util.StreamCodecs;
 import io.netty.buffer.ByteBuf;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
-import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.minecraft.resources.ResourceLocation;
 import org.jetbrains.annotations.NotNull;
 
+/**
+ * The movement input of a player riding a {@link ControllableEntity}.
+ * Clients only send this when their input changes (and once a second to keep it alive);
+ * the server applies every input it receives and repeats the last one on ticks without a packet.
+ */
 public record ControlEntityPayload(float leftImpulse, float forwardImpulse, boolean up, boolean down, boolean left, boolean right, boolean jumping, boolean shiftKeyDown) implements C2SPayload {
-    public static final StreamCodec<ByteBuf, ControlEntityPayload> STREAM_CODEC = StreamCodecs.composite(
-            ByteBufCodecs.FLOAT,
-            p -> p.leftImpulse,
-            ByteBufCodecs.FLOAT,
-            p -> p.forwardImpulse,
-            ByteBufCodecs.BOOL,
-            p -> p.up,
-            ByteBufCodecs.BOOL,
-            p -> p.down,
-            ByteBufCodecs.BOOL,
-            p -> p.left,
-            ByteBufCodecs.BOOL,
-            p -> p.right,
-            ByteBufCodecs.BOOL,
-            p -> p.jumping,
-            ByteBufCodecs.BOOL,
-            p -> p.shiftKeyDown,
-            ControlEntityPayload::new
+    public static final StreamCodec<ByteBuf, ControlEntityPayload> STREAM_CODEC = StreamCodec.of(
+            (buf, p) -> {
+                buf.writeFloat(p.leftImpulse);
+                buf.writeFloat(p.forwardImpulse);
+                buf.writeByte((p.up ? 1 : 0)
+                        | (p.down ? 1 << 1 : 0)
+                        | (p.left ? 1 << 2 : 0)
+                        | (p.right ? 1 << 3 : 0)
+                        | (p.jumping ? 1 << 4 : 0)
+                        | (p.shiftKeyDown ? 1 << 5 : 0));
+            },
+            buf -> {
+                float leftImpulse = buf.readFloat();
+                float forwardImpulse = buf.readFloat();
+                byte flags = buf.readByte();
+                return new ControlEntityPayload(leftImpulse, forwardImpulse, (flags & 1) != 0, (flags & 1 << 1) != 0, (flags & 1 << 2) != 0, (flags & 1 << 3) != 0, (flags & 1 << 4) != 0, (flags & 1 << 5) != 0);
+            }
     );
     public static final ResourceLocation ID = Constant.id("control_entity");
     public static final CustomPacketPayload.Type<ControlEntityPayload> TYPE = new CustomPacketPayload.Type<>(ID);
@@ -60,10 +62,15 @@ public record ControlEntityPayload(float leftImpulse, float forwardImpulse, bool
     @Override
     public void handle(ServerPlayNetworking.@NotNull Context context) {
         if (context.player().isPassenger() && context.player().getVehicle() instanceof ControllableEntity controllable) {
-            controllable.inputTick(leftImpulse(), forwardImpulse(), up(), down(), left(), right(), jumping(), shiftKeyDown());
+            this.apply(controllable);
+            context.player().galacticraft$setControlInput(this);
         }
     }
 
+    public void apply(ControllableEntity controllable) {
+        controllable.inputTick(this.leftImpulse, this.forwardImpulse, this.up, this.down, this.left, this.right, this.jumping, this.shiftKeyDown);
+    }
+
     @Override
     public @NotNull Type<? extends CustomPacketPayload> type() {
         return TYPE;
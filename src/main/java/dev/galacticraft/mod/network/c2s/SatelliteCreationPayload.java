@@ -43,7 +43,13 @@ public record SatelliteCreationPayload(Holder<CelestialBody<?, ?>> body) impleme
 
     @Override
     public void handle(ServerPlayNetworking.@NotNull Context context) {
-        SatelliteType.registerSatellite(context.server(), context.player(), this.body, context.server().getStructureManager().get(Constant.Structure.SPACE_STATION).orElseThrow());
+        if (context.server().getStructureManager().get(Constant.Structure.SPACE_STATION).isEmpty()) {
+            Constant.LOGGER.error("Missing space station structure template '{}'", Constant.Structure.SPACE_STATION);
+            return;
+        }
+        if (SatelliteType.registerSatellite(context.server(), context.player(), this.body, Constant.Structure.SPACE_STATION) == null) {
+            Constant.LOGGER.warn("{} tried to create a second space station around {}", context.player().getScoreboardName(), this.body.unwrapKey().map(key -> key.location().toString()).orElse("an unregistered body"));
+        }
     }
 
     @Override
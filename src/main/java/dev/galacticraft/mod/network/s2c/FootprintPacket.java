@@ -37,10 +37,19 @@
 
 import java.util.List;
 
-public record FootprintPacket(long chunk, List<Footprint> footprints) implements S2CPayload {
+/**
+ * Sends footprints in a chunk to the client.
+ *
+ * @param chunk the packed position of the chunk
+ * @param replace whether these are all the footprints in the chunk, rather than newly placed ones
+ * @param footprints the footprints
+ */
+public record FootprintPacket(long chunk, boolean replace, List<Footprint> footprints) implements S2CPayload {
     public static final StreamCodec<ByteBuf, FootprintPacket> STREAM_CODEC = StreamCodec.composite(
             StreamCodecs.LONG,
             p -> p.chunk,
+            ByteBufCodecs.BOOL,
+            p -> p.replace,
             ByteBufCodecs.<ByteBuf, Footprint>list().apply(Footprint.STREAM_CODEC),
             p -> p.footprints,
             FootprintPacket::new
@@ -50,7 +59,7 @@ public record FootprintPacket(long chunk, List<Footprint> footprints) implements
 
     @Override
     public Runnable handle(ClientPlayNetworking.@NotNull Context context) {
-        return () -> FootprintRenderer.setFootprints(this.chunk, this.footprints);
+        return () -> FootprintRenderer.setFootprints(this.chunk, this.replace, this.footprints);
     }
 
     @Override
@@ -24,26 +24,30 @@
 
 import dev.galacticraft.impl.network.s2c.S2CPayload;
 import dev.galacticraft.mod.Constant;
-import dev.galacticraft.mod.misc.footprint.Footprint;
 import dev.galacticraft.mod.misc.footprint.FootprintManager;
 import dev.galacticraft.mod.util.StreamCodecs;
 import io.netty.buffer.ByteBuf;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
-import net.minecraft.core.BlockPos;
+import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.minecraft.resources.ResourceLocation;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.BitSet;
 
-public record FootprintRemovedPacket(long chunk, BlockPos pos) implements S2CPayload {
+/**
+ * Removes the footprints in some block columns of a chunk.
+ *
+ * @param chunk the packed position of the chunk
+ * @param columns a {@link BitSet} of the column indices, as produced by {@link BitSet#toByteArray()}
+ */
+public record FootprintRemovedPacket(long chunk, byte[] columns) implements S2CPayload {
     public static final StreamCodec<ByteBuf, FootprintRemovedPacket> STREAM_CODEC = StreamCodec.composite(
             StreamCodecs.LONG,
             p -> p.chunk,
-            BlockPos.STREAM_CODEC,
-            p -> p.pos,
+            ByteBufCodecs.BYTE_ARRAY,
+            p -> p.columns,
             FootprintRemovedPacket::new
     );
     public static final ResourceLocation ID = Constant.id("footprint_removed");
@@ -52,22 +56,10 @@ public record FootprintRemovedPacket(long chunk, BlockPos pos) implements S2CPay
     @Override
     public Runnable handle(ClientPlayNetworking.@NotNull Context context) {
         return () -> {
-            BlockPos pos = pos();
             FootprintManager manager = context.player().level().galacticraft$getFootprintManager();
-            List<Footprint> footprintList = manager.getFootprints().get(this.chunk);
-            List<Footprint> toRemove = new ArrayList<>();
-
-            if (footprintList != null) {
-                for (Footprint footprint : footprintList) {
-                    if (footprint.position.x > pos.getX() && footprint.position.x < pos.getX() + 1 && footprint.position.z > pos.getZ() && footprint.position.z < pos.getZ() + 1) {
-                        toRemove.add(footprint);
-                    }
-                }
-            }
-
-            if (!toRemove.isEmpty()) {
-                footprintList.removeAll(toRemove);
-                manager.getFootprints().put(this.chunk, footprintList);
+            BitSet columns = BitSet.valueOf(this.columns);
+            for (int column = columns.nextSetBit(0); column >= 0; column = columns.nextSetBit(column + 1)) {
+                manager.removeFootprints(this.chunk, column);
             }
         };
     }
@@ -124,6 +124,14 @@ interface Config {
 
         String COMMANDS = "config.galacticraft.commands";
         String ENABLE_GC_HOUSTON = "config.galacticraft.commands.enable_gc_houston";
+
+        String SATELLITES = "config.galacticraft.satellites";
+        String SATELLITE_UNLOAD_DELAY = "config.galacticraft.satellites.unload_delay";
+        String SATELLITE_UNLOAD_DELAY_DESC = "config.galacticraft.satellites.unload_delay.desc";
+
+        String ROCKETS = "config.galacticraft.rockets";
+        String ROCKET_ASCENT_HEIGHT = "config.galacticraft.rockets.ascent_height";
+        String ROCKET_ASCENT_HEIGHT_DESC = "config.galacticraft.rockets.ascent_height.desc";
     }
 
     interface Galaxy {
@@ -33,8 +33,45 @@
  * Vanilla copy of {@link net.minecraft.world.inventory.PlayerEnderChestContainer} save methods
  */
 public class GearInventory extends SimpleContainer {
+    private final Runnable beforeChange;
+
     public GearInventory() {
+        this(() -> {});
+    }
+
+    /**
+     * @param beforeChange called before the contents of a slot change, while the old stacks are still in place.
+     *                     Replacing a stack with an identical one (such as a copy) is not a change.
+     */
+    public GearInventory(Runnable beforeChange) {
         super(12);
+        this.beforeChange = beforeChange;
+    }
+
+    @Override
+    public void setItem(int slot, ItemStack stack) {
+        if (!ItemStack.matches(this.getItem(slot), stack)) {
+            this.beforeChange.run();
+        }
+        super.setItem(slot, stack);
+    }
+
+    @Override
+    public @NotNull ItemStack removeItem(int slot, int amount) {
+        this.beforeChange.run();
+        return super.removeItem(slot, amount);
+    }
+
+    @Override
+    public @NotNull ItemStack removeItemNoUpdate(int slot) {
+        this.beforeChange.run();
+        return super.removeItemNoUpdate(slot);
+    }
+
+    @Override
+    public void clearContent() {
+        this.beforeChange.run();
+        super.clearContent();
     }
 
     @Override
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.gametest;
+
+import dev.galacticraft.api.gas.Gases;
+import dev.galacticraft.impl.internal.inventory.MappedInventory;
+import dev.galacticraft.impl.internal.inventory.OxygenSupply;
+import dev.galacticraft.machinelib.api.gametest.SimpleGameTest;
+import dev.galacticraft.machinelib.api.gametest.annotation.BasicTest;
+import dev.galacticraft.mod.content.item.GCItems;
+import dev.galacticraft.mod.content.item.OxygenTankItem;
+import dev.galacticraft.mod.world.inventory.GearInventory;
+import net.fabricmc.fabric.api.transfer.v1.context.ContainerItemContext;
+import net.fabricmc.fabric.api.transfer.v1.fluid.FluidStorage;
+import net.fabricmc.fabric.api.transfer.v1.fluid.FluidVariant;
+import net.fabricmc.fabric.api.transfer.v1.item.InventoryStorage;
+import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
+import net.fabricmc.fabric.api.transfer.v1.storage.StorageView;
+import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
+import net.minecraft.world.Container;
+import net.minecraft.world.item.ItemStack;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SuppressWarnings("UnstableApiUsage")
+public class OxygenSupplyTestSuite extends SimpleGameTest {
+    private static final long BREATH = 10;
+    private static final int BREATHS = 5;
+
+    @BasicTest(batch = "oxygen")
+    public void swapKeepsDrainedOxygen() {
+        OxygenSupply[] supply = new OxygenSupply[1];
+        Container tanks = MappedInventory.create(new GearInventory(() -> supply[0].flush()), 4, 5);
+        supply[0] = new OxygenSupply(tanks);
+        long capacity = fill(tanks);
+
+        breathe(supply[0]);
+        ItemStack tank = tanks.removeItemNoUpdate(0);
+        tanks.setItem(0, tank);
+
+        assertEquals(capacity - BREATH * BREATHS, amount(tanks.getItem(0)));
+        assertEquals(capacity - BREATH * BREATHS, supply[0].getAvailable());
+    }
+
+    @BasicTest(batch = "oxygen")
+    public void replacingWithCopyKeepsDrainedOxygen() {
+        OxygenSupply[] supply = new OxygenSupply[1];
+        Container tanks = MappedInventory.create(new GearInventory(() -> supply[0].flush()), 4, 5);
+        supply[0] = new OxygenSupply(tanks);
+        long capacity = fill(tanks);
+
+        breathe(supply[0]);
+        tanks.setItem(0, tanks.getItem(0).copy());
+
+        assertEquals(capacity - BREATH * BREATHS, supply[0].getAvailable());
+        supply[0].flush();
+        assertEquals(capacity - BREATH * BREATHS, amount(tanks.getItem(0)));
+    }
+
+    private static void breathe(OxygenSupply supply) {
+        for (int i = 0; i < BREATHS; i++) {
+            assertTrue(supply.drain(BREATH));
+        }
+    }
+
+    private static long fill(Container tanks) {
+        tanks.setItem(0, new ItemStack(GCItems.SMALL_OXYGEN_TANK));
+        long capacity = ((OxygenTankItem) GCItems.SMALL_OXYGEN_TANK).capacity;
+        Storage<FluidVariant> storage = ContainerItemContext.ofSingleSlot(InventoryStorage.of(tanks, null).getSlot(0)).find(FluidStorage.ITEM);
+        try (Transaction transaction = Transaction.openOuter()) {
+            long inserted = 0;
+            long amount;
+            // tanks cap how much can be moved per operation
+            while (inserted < capacity && (amount = storage.insert(FluidVariant.of(Gases.OXYGEN), capacity - inserted, transaction)) > 0) {
+                inserted += amount;
+            }
+            transaction.commit();
+        }
+        assertEquals(capacity, amount(tanks.getItem(0)));
+        return capacity;
+    }
+
+    private static long amount(ItemStack stack) {
+        return ((StorageView<FluidVariant>) ContainerItemContext.withConstant(stack).find(FluidStorage.ITEM)).getAmount();
+    }
+}